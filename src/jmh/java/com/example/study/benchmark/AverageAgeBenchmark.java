@@ -0,0 +1,91 @@
+package com.example.study.benchmark;
+
+import com.example.study.dto.AgeComparison;
+import com.example.study.entity.Member;
+import com.example.study.entity.QMember;
+import com.example.study.repository.MemberRepository;
+import com.example.study.service.MemberQueryService;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.study.entity.QMember.member;
+
+// "평균 나이보다 많은 회원" 조회 방식 비교
+// - subquery        : 기존 방식 (WHERE age > (SELECT AVG(age) ...))
+// - twoQueries      : 평균을 먼저 구하고 값으로 바인딩 (findByAgeComparedToAverage)
+// - cachedAverage   : 캐시된 평균(MemberQueryService.averageAge) + 나이 조건 쿼리 하나 (findByAgeComparedTo)
+// 팀 평균 기준:
+// - teamCorrelated  : 회원마다 팀 평균을 다시 구하는 상관 서브쿼리
+// - teamWindow      : AVG() OVER (PARTITION BY team_id) 한 번의 스캔 (findByAgeComparedToTeamAverage)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AverageAgeBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private MemberQueryService memberQueryService;
+    private JPAQueryFactory factory;
+    private TransactionTemplate readOnlyTx;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(members, Map.of());
+        memberRepository = context.getBean(MemberRepository.class);
+        memberQueryService = context.getBean(MemberQueryService.class);
+        factory = context.getBean(JPAQueryFactory.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> subquery() {
+        QMember memberSub = new QMember("memberSub");
+        return readOnlyTx.execute(s -> factory.selectFrom(member)
+                .where(member.age.gt(JPAExpressions.select(memberSub.age.avg()).from(memberSub)))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Member> twoQueries() {
+        return memberRepository.findByAgeComparedToAverage(AgeComparison.ABOVE);
+    }
+
+    // 다른 방식과 똑같이 엔티티를 조회하고, 평균을 구하는 방법(캐시)만 다르게 합니다.
+    @Benchmark
+    public List<Member> cachedAverage() {
+        return memberRepository.findByAgeComparedTo(AgeComparison.ABOVE, memberQueryService.averageAge());
+    }
+
+    @Benchmark
+    public List<Member> teamCorrelated() {
+        QMember memberSub = new QMember("memberSub");
+        return readOnlyTx.execute(s -> factory.selectFrom(member)
+                .where(member.team.isNotNull(),
+                        member.age.gt(JPAExpressions.select(memberSub.age.avg())
+                                .from(memberSub)
+                                .where(memberSub.team.eq(member.team))))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Member> teamWindow() {
+        return memberRepository.findByAgeComparedToTeamAverage(AgeComparison.ABOVE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.study.benchmark;
+
+import com.example.study.StudyApplication;
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.service.MemberBulkInsertService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// 벤치마크용 스프링 컨텍스트를 내장 H2(MySQL 모드)로 띄우고 회원/팀 데이터를 채웁니다.
+// 실제 애플리케이션 설정(application.yml)을 그대로 쓰고, DB 접속과 로그 관련 설정만 덮어씁니다.
+// 테이블과 인덱스는 운영과 같은 Flyway 마이그레이션으로 만들어집니다.
+// -Dbenchmark.datasource.url(-username, -password)을 주면 H2 대신 그 DB(MySQL)에서 실행합니다.
+// 이때 기존 회원/팀 데이터는 모두 지우고 다시 채우므로 벤치마크 전용 스키마를 사용해야 합니다.
+final class BenchmarkContext {
+
+    static final int TEAMS = 10;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(int members, Map<String, Object> extraProperties) {
+        Map<String, Object> properties = new HashMap<>();
+        String url = System.getProperty("benchmark.datasource.url");
+        if (url != null) {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("benchmark.datasource.username", "root"));
+            properties.put("spring.datasource.password", System.getProperty("benchmark.datasource.password", ""));
+        } else {
+            properties.put("spring.datasource.url",
+                    "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.jpa.database", "h2");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        }
+        properties.put("sql-log.enabled", "false"); // SQL 로그 출력 비용 제외
+        properties.put("sql-guard.enabled", "false");
+        properties.put("logging.level.root", "warn");
+        properties.putAll(extraProperties);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+        seed(context, members);
+        return context;
+    }
+
+    // 고정 시드로 만들기 때문에 실행할 때마다 같은 데이터가 들어갑니다.
+    private static void seed(ConfigurableApplicationContext context, int members) {
+        MemberBulkInsertService bulkInsertService = context.getBean(MemberBulkInsertService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM tbl_member");
+        jdbcTemplate.update("DELETE FROM tbl_team");
+        bulkInsertService.insertTeams(IntStream.rangeClosed(1, TEAMS)
+                .mapToObj(i -> Team.builder().name("team" + i).build())
+                .toList());
+        List<Long> teamIds = jdbcTemplate
+                .queryForList("SELECT team_id FROM tbl_team ORDER BY team_id", Long.class);
+
+        Random random = new Random(42);
+        bulkInsertService.insertMembers(() -> IntStream.range(0, members)
+                .mapToObj(i -> Member.builder()
+                        .userName("member" + i)
+                        .age(10 + random.nextInt(70))
+                        .team(Team.builder().id(teamIds.get(random.nextInt(teamIds.size()))).build())
+                        .build())
+                .iterator());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.study.benchmark;
+
+import com.example.study.dto.MemberSummary;
+import com.example.study.entity.Member;
+import com.example.study.entity.QMember;
+import com.example.study.repository.MemberRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.study.entity.QMember.member;
+import static com.example.study.entity.QTeam.team;
+
+// MemberRepositoryImpl의 조회 메서드와 MemberRepositoryTest에서 쓰는 쿼리 패턴(join, left join, 서브쿼리, group by)을 측정합니다.
+// Throughput(초당 실행 수)과 SampleTime(지연 시간 분포: p50/p90/p99...)을 함께 보고, -prof gc로 1회당 할당량을 봅니다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberRepositoryBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private JPAQueryFactory factory;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(members, Map.of());
+        memberRepository = context.getBean(MemberRepository.class);
+        factory = context.getBean(JPAQueryFactory.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // ---------- MemberRepositoryCustom ----------
+
+    @Benchmark
+    public List<Member> findByName() {
+        return memberRepository.findByName("member" + (members / 2));
+    }
+
+    @Benchmark
+    public List<Member> findUserNoCondition() {
+        return memberRepository.findUser(null, null);
+    }
+
+    @Benchmark
+    public List<Member> findUserNameOnly() {
+        return memberRepository.findUser("member" + (members / 2), null);
+    }
+
+    @Benchmark
+    public List<Member> findUserAgeOnly() {
+        return memberRepository.findUser(null, 30);
+    }
+
+    @Benchmark
+    public List<Member> findUserNameAndAge() {
+        return memberRepository.findUser("member" + (members / 2), 30);
+    }
+
+    // ---------- 엔티티 vs DTO 프로젝션 ----------
+
+    // 두 방식 모두 읽기/쓰기 트랜잭션에서 실행합니다.
+    // 읽기 전용 트랜잭션이면 세션 자체가 읽기 전용이 되어 스냅샷을 만들지 않으므로 엔티티 조회 비용이 실제보다 작게 나옵니다.
+
+    // 일반(관리되는) 엔티티 조회: 스냅샷 + 팀 프록시 생성
+    @Benchmark
+    public List<Member> entityFetch() {
+        return readWriteTx.execute(s -> factory.selectFrom(member).where(member.age.eq(30)).fetch());
+    }
+
+    @Benchmark
+    public List<MemberSummary> projectionFetch() {
+        return readWriteTx.execute(s -> memberRepository.findUserSummary(null, 30));
+    }
+
+    // ---------- MemberRepositoryTest의 쿼리 패턴 ----------
+
+    @Benchmark
+    public List<Tuple> join() {
+        return readOnlyTx.execute(s -> factory.select(member.userName, team.name)
+                .from(member)
+                .join(member.team, team)
+                .where(team.name.eq("team1"))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Tuple> leftJoin() {
+        return readOnlyTx.execute(s -> factory.select(member, team)
+                .from(member)
+                .leftJoin(member.team, team)
+                .on(team.name.eq("team1"))
+                .where(member.age.eq(30))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Member> subQuery() {
+        QMember memberSub = new QMember("memberSub");
+        return readOnlyTx.execute(s -> factory.selectFrom(member)
+                .where(member.age.gt(JPAExpressions.select(memberSub.age.avg()).from(memberSub)))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Tuple> groupBy() {
+        return readOnlyTx.execute(s -> factory.select(member.age, member.age.count())
+                .from(member)
+                .groupBy(member.age)
+                .having(member.age.count().goe(3))
+                .orderBy(member.age.asc())
+                .fetch());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.study.benchmark;
+
+import com.example.study.dto.KeysetSlice;
+import com.example.study.dto.MemberCursor;
+import com.example.study.entity.Member;
+import com.example.study.repository.MemberRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.study.entity.QMember.member;
+
+// offset 페이징과 seek(키셋) 페이징 비교 (MemberRepositoryTest.offsetVsKeysetPaging에서 옮겨온 측정)
+// 같은 위치(page번째 페이지, 즉 page * PAGE_SIZE번째 행부터 PAGE_SIZE건)를 두 방식으로 읽습니다.
+// page는 10 / 1,000 / 100,000 페이지이고, 회원 수는 가장 깊은 페이지까지 채워지도록 (100,000 + 1) * PAGE_SIZE건입니다.
+// 데이터가 커서 H2 메모리 DB에 맞도록 힙을 늘려서 실행합니다.
+// - offset : ORDER BY user_name, member_id LIMIT ? OFFSET ? -> 앞의 행을 모두 읽고 버리므로 뒤로 갈수록 느려짐
+// - seek   : findSliceOrderByUserName(cursor) -> (user_name, member_id) 인덱스에서 바로 시작
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"2000020"})
+    public int members;
+
+    @Param({"10", "1000", "100000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private JPAQueryFactory factory;
+    private TransactionTemplate readOnlyTx;
+    private int pageOffset;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pageOffset = page * PAGE_SIZE;
+        if (members < pageOffset + PAGE_SIZE) {
+            throw new IllegalStateException("members(" + members + ")가 " + page + "페이지를 채우지 못합니다.");
+        }
+        context = BenchmarkContext.start(members, Map.of());
+        memberRepository = context.getBean(MemberRepository.class);
+        factory = context.getBean(JPAQueryFactory.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+
+        // seek 쪽은 pageOffset 바로 앞 행의 커서에서 시작합니다. (클라이언트가 이전 페이지에서 받은 커서와 같음)
+        Member last = readOnlyTx.execute(s -> factory.selectFrom(member)
+                .orderBy(member.userName.asc(), member.id.asc())
+                .offset(pageOffset - 1)
+                .limit(1)
+                .fetchOne());
+        cursor = MemberCursor.encode(last.getUserName(), last.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> offset() {
+        // seek과 같은 조건이 되도록 다음 페이지 확인용 1건을 더 읽습니다.
+        return readOnlyTx.execute(s -> factory.selectFrom(member)
+                .orderBy(member.userName.asc(), member.id.asc())
+                .offset(pageOffset)
+                .limit(PAGE_SIZE + 1)
+                .fetch());
+    }
+
+    @Benchmark
+    public KeysetSlice<Member> seek() {
+        return memberRepository.findSliceOrderByUserName(cursor, PAGE_SIZE);
+    }
+}
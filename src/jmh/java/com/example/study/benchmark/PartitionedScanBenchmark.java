@@ -0,0 +1,56 @@
+package com.example.study.benchmark;
+
+import com.example.study.repository.MemberPartitionedScanner;
+import com.example.study.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 회원 전체 스캔(나이 합계)을 구간 1/2/4/8개로 나눴을 때의 소요 시간 비교
+// 기준선은 기존 방식인 findUser(null, null) (단일 쿼리, 단일 스레드, 전체를 List로 로딩)
+// 스레드 풀과 커넥션 풀은 8개 구간이 모두 동시에 돌 수 있는 크기로 맞춥니다.
+// 기본 설정(내장 H2, 같은 JVM)에서는 DB I/O나 커넥션 동시성이 아니라 CPU 병렬성만 측정됩니다.
+// 구간 수에 따른 실제 확장성은 MySQL에서 측정해야 합니다. (build.gradle의 -Pjmh.datasource.url 참고)
+//   ./gradlew jmh -Pjmh.includes=PartitionedScan -Pjmh.datasource.url=jdbc:mysql://...
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PartitionedScanBenchmark {
+
+    @Param({"200000"})
+    public int members;
+
+    @Param({"1", "2", "4", "8"})
+    public int partitions;
+
+    private ConfigurableApplicationContext context;
+    private MemberPartitionedScanner scanner;
+    private MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(members, Map.of(
+                "member-scan.threads", 8,
+                "spring.datasource.hikari.maximum-pool-size", 10));
+        scanner = context.getBean(MemberPartitionedScanner.class);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long partitionedScan() {
+        return scanner.scan(partitions, null, () -> 0L, (sum, m) -> sum + m.getAge(), Long::sum);
+    }
+
+    // 구간 수와 무관한 기준선 (partitions=1일 때만 의미 있음)
+    @Benchmark
+    public long singleQueryBaseline() {
+        return memberRepository.findUser(null, null).stream().mapToLong(m -> m.getAge()).sum();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.study.benchmark;
+
+import com.example.study.entity.Member;
+import com.example.study.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 큰 결과(전체 회원)를 엔티티로 조회할 때 읽기 전용 힌트가 줄여 주는 비용을 측정합니다.
+// - findUser         : 일반 조회, 엔티티마다 스냅샷을 만들고 커밋 시 flush에서 변경 감지
+// - findUserReadOnly : ReadOnlyQueryFactory(읽기 전용 힌트), 스냅샷/변경 감지 없음
+// 두 메서드 모두 읽기/쓰기 트랜잭션에서 실행합니다. (읽기 전용 트랜잭션이면 세션 전체가 읽기 전용이 되어 차이가 사라짐)
+// 커밋까지 포함해서 재므로 변경 감지 CPU 시간이 들어가고, -prof gc(build.gradle 기본값)의 gc.alloc.rate.norm으로 1회당 할당량을 비교합니다.
+// ./gradlew jmh -Pjmh.includes=ReadOnlyFetch
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReadOnlyFetchBenchmark {
+
+    @Param({"100000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate readWriteTx;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(members, Map.of());
+        memberRepository = context.getBean(MemberRepository.class);
+        readWriteTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findUser() {
+        return readWriteTx.execute(s -> memberRepository.findUser(null, null).size());
+    }
+
+    @Benchmark
+    public int findUserReadOnly() {
+        return readWriteTx.execute(s -> memberRepository.findUserReadOnly(null, null).size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.study.benchmark;
+
+import com.example.study.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 동시 요청 1,000 ~ 10,000개를 플랫폼 스레드 풀과 가상 스레드로 처리할 때의 처리량과 메모리를 비교합니다.
+// 1회 실행 = concurrency개의 요청을 한꺼번에 던지고 모두 끝날 때까지 기다림.
+// - 플랫폼: 요청 수만큼의 고정 스레드 풀 (톰캣 max-threads를 그만큼 늘린 상황)
+// - 가상: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true)
+// 요청 하나는 blockingMillis만큼 다른 I/O(외부 호출 등)를 기다린 뒤 findByName을 실행합니다.
+// 결과의 requests는 초당 요청 수, peakThreads/heapUsedMb는 iteration 동안의 플랫폼 스레드 최대 수와 종료 시점 힙 사용량입니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ThreadModelBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    @Param({"1000", "5000", "10000"})
+    public int concurrency;
+
+    @Param({"platform", "virtual"})
+    public String threadModel;
+
+    @Param({"10"})
+    public int blockingMillis;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 커넥션 풀은 운영(prod) 프로파일과 같은 크기로 고정
+        context = BenchmarkContext.start(members, Map.of(
+                "spring.datasource.hikari.maximum-pool-size", 20,
+                "spring.datasource.hikari.minimum-idle", 20,
+                "spring.datasource.hikari.connection-timeout", 60000));
+        memberRepository = context.getBean(MemberRepository.class);
+        executor = "virtual".equals(threadModel)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(concurrency);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long requests;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long peakThreads;
+        public long heapUsedMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            THREADS.resetPeakThreadCount();
+        }
+
+        @TearDown(Level.Iteration)
+        public void record() {
+            peakThreads = THREADS.getPeakThreadCount();
+            heapUsedMb = MEMORY.getHeapMemoryUsage().getUsed() / (1024 * 1024);
+        }
+    }
+
+    @Benchmark
+    public void burst(Requests requests, Footprint footprint) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                    memberRepository.findByName("member" + ThreadLocalRandom.current().nextInt(members));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        requests.requests += concurrency;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.study;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+// SQL 로그 설정을 재시작 없이 바꾸기 위한 actuator 엔드포인트
+// GET  /actuator/sqllog                                     : 현재 설정 조회
+// POST /actuator/sqllog {"thresholdMs":200,"sampleRate":1000} : 전달한 값만 변경
+@Component
+@Endpoint(id = "sqllog")
+@RequiredArgsConstructor
+public class P6SpyLogEndpoint {
+
+    private final P6SpyLogProperties properties;
+
+    @ReadOperation
+    public P6SpyLogProperties settings() {
+        return properties;
+    }
+
+    @WriteOperation
+    public P6SpyLogProperties update(@Nullable Long thresholdMs, @Nullable Integer sampleRate,
+                                     @Nullable Boolean async) {
+        if (thresholdMs != null) {
+            if (thresholdMs < 0) {
+                throw new IllegalArgumentException("thresholdMs는 0 이상이어야 합니다.");
+            }
+            properties.setThresholdMs(thresholdMs);
+        }
+        if (sampleRate != null) {
+            if (sampleRate < 0) {
+                throw new IllegalArgumentException("sampleRate는 0 이상이어야 합니다.");
+            }
+            properties.setSampleRate(sampleRate);
+        }
+        if (async != null) {
+            properties.setAsync(async);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.study;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// SQL 로그 출력 방식 설정 (application.yml의 sql-log.*)
+// 실행 중에는 /actuator/sqllog 로 조회/변경할 수 있으며, 바뀐 값은 다음 SQL부터 바로 적용됩니다.
+@Getter @Setter
+@ToString
+@Component
+@ConfigurationProperties(prefix = "sql-log")
+public class P6SpyLogProperties {
+
+    // false면 SQL 로그를 남기지 않습니다. (부하 테스트, 벤치마크)
+    private volatile boolean enabled = true;
+
+    // true면 JDBC를 실행한 스레드에서는 원본 값만 버퍼에 넣고, 포맷팅과 출력은 별도 스레드가 합니다.
+    private volatile boolean async = false;
+
+    // 비동기 모드의 버퍼 크기 (2의 거듭제곱으로 올림, 실행 중 변경 불가)
+    private int bufferSize = 8192;
+
+    // 버퍼가 가득 찼을 때 정책
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    // 실행 시간이 이 값(ms) 이상인 SQL만 로그를 남깁니다. 0이면 모든 SQL을 남깁니다.
+    private volatile long thresholdMs = 0;
+
+    // threshold보다 빠른 SQL 중 N건마다 1건을 샘플로 남깁니다. 0이면 남기지 않습니다.
+    // (에러는 threshold, 샘플링과 관계없이 항상 남깁니다.)
+    private volatile int sampleRate = 0;
+
+    public enum OverflowPolicy {
+        DROP,   // 로그를 버리고 바로 반환 (버린 개수는 따로 집계)
+        BLOCK   // 자리가 날 때까지 JDBC 스레드가 기다림
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.study;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 비동기 SQL 로그용 고정 크기 링 버퍼입니다. (여러 생산자 / 하나의 소비자, 락 없음)
+// 각 칸마다 시퀀스 번호를 두고, 생산자는 CAS로 쓸 위치를 선점한 뒤 값을 넣고 시퀀스를 올려 소비자에게 알립니다.
+// 버퍼가 가득 차면 offer()는 기다리지 않고 false를 반환합니다. (대기 여부는 호출하는 쪽 정책에 따름)
+class P6SpyLogRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자들이 경쟁)
+    private long head; // 다음에 읽을 위치 (소비자 스레드만 사용)
+
+    P6SpyLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, pos + 1); // 소비자에게 공개
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // 한 바퀴 전의 값을 아직 소비하지 않음 = 가득 참
+            } else {
+                pos = tail.get(); // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    // 소비자 스레드 하나에서만 호출해야 합니다.
+    E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null; // 비어 있음
+        }
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, head + mask + 1); // 다음 바퀴의 생산자에게 칸을 돌려줌
+        head++;
+        return element;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.study;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JDBC 계층에서 SQL 모양(리터럴 제거)별 실행 시간 히스토그램과 조회 행 수를 수집합니다.
+// Micrometer 타이머/히스토그램은 락 없이 기록되며, actuator에서 확인할 수 있습니다.
+//   /actuator/metrics/jdbc.statement             : SQL 모양별 실행 시간 (tag: sql, result)
+//   /actuator/metrics/jdbc.statement.rows        : SQL 모양별 조회 행 수
+// 정규화 결과(P6SpySqlNormalizer.shapeOf)와 미터는 캐시하므로, 정규화는 SQL마다 한 번만 일어납니다.
+// 행 수는 statement 단위로 세고, ResultSet이 닫힐 때뿐 아니라 statement/커넥션을 닫아서 함께 닫힌 경우에도 기록하고 지웁니다.
+// (ResultSet.close()를 직접 부르지 않으면 onAfterResultSetClose가 오지 않아 항목이 남기 때문)
+@Component
+@RequiredArgsConstructor
+public class P6SpyMetricsListener extends JdbcEventListener {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final Map<StatementInformation, OpenResultSet> openResultSets = new ConcurrentHashMap<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String shape = P6SpySqlNormalizer.shapeOf(statementInformation.getSql());
+        String key = (e == null ? "success|" : "error|") + shape;
+        timers.computeIfAbsent(key, k -> Timer.builder("jdbc.statement")
+                        .description("JDBC statement execution time by normalized SQL")
+                        .tag("sql", shape)
+                        .tag("result", e == null ? "success" : "error")
+                        .publishPercentileHistogram()
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(registry))
+                .record(timeElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onAfterResultSetNext(ResultSetInformation resultSetInformation, long timeElapsedNanos,
+                                     boolean hasNext, SQLException e) {
+        if (!hasNext) {
+            return;
+        }
+        StatementInformation statement = resultSetInformation.getStatementInformation();
+        OpenResultSet open = openResultSets.computeIfAbsent(statement, k -> new OpenResultSet(resultSetInformation));
+        if (open.resultSet != resultSetInformation) {
+            // 같은 statement의 다음 ResultSet (getMoreResults 등): 이전 것은 닫힌 것으로 보고 기록합니다.
+            record(open);
+            open = new OpenResultSet(resultSetInformation);
+            openResultSets.put(statement, open);
+        }
+        open.rows.incrementAndGet();
+    }
+
+    @Override
+    public void onAfterResultSetClose(ResultSetInformation resultSetInformation, SQLException e) {
+        OpenResultSet open = openResultSets.remove(resultSetInformation.getStatementInformation());
+        record(open != null ? open : new OpenResultSet(resultSetInformation)); // 행이 없었던 경우 0건
+    }
+
+    @Override
+    public void onAfterStatementClose(StatementInformation statementInformation, SQLException e) {
+        OpenResultSet open = openResultSets.remove(statementInformation);
+        if (open != null) {
+            record(open);
+        }
+    }
+
+    @Override
+    public void onAfterConnectionClose(ConnectionInformation connectionInformation, SQLException e) {
+        openResultSets.entrySet().removeIf(entry -> {
+            if (entry.getKey().getConnectionInformation() != connectionInformation) {
+                return false;
+            }
+            record(entry.getValue());
+            return true;
+        });
+    }
+
+    int openResultSetCount() {
+        return openResultSets.size();
+    }
+
+    private void record(OpenResultSet open) {
+        String shape = P6SpySqlNormalizer.shapeOf(open.resultSet.getSql());
+        rowSummaries.computeIfAbsent(shape, s -> DistributionSummary.builder("jdbc.statement.rows")
+                        .description("Rows read from the result set by normalized SQL")
+                        .baseUnit("rows")
+                        .tag("sql", s)
+                        .register(registry))
+                .record(open.rows.get());
+    }
+
+    private static final class OpenResultSet {
+        private final ResultSetInformation resultSet;
+        private final AtomicLong rows = new AtomicLong();
+
+        private OpenResultSet(ResultSetInformation resultSet) {
+            this.resultSet = resultSet;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.study;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// p6spy가 감싼 DataSource를 통해 실행된 SQL 개수를 스레드별로 세는 리스너입니다.
+// JdbcEventListener 빈으로 등록하면 p6spy-spring-boot-starter가 자동으로 연결해 줍니다.
+// N+1 문제처럼 "쿼리가 몇 번 나갔는지"를 테스트에서 검증할 때 사용합니다.
+@Component
+public class P6SpyQueryCounter extends JdbcEventListener {
+
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        count.get()[0]++;
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    public long getCount() {
+        return count.get()[0];
+    }
+
+    // action 실행 중에 나간 SQL 개수를 반환합니다.
+    // ex) assertTrue(queryCounter.countStatements(() -> memberRepository.findByNameWithTeam("member1")) <= 2);
+    public long countStatements(Runnable action) {
+        long before = getCount();
+        action.run();
+        return getCount() - before;
+    }
+}
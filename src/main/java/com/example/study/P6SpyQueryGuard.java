@@ -0,0 +1,104 @@
+package com.example.study;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+// 트랜잭션 단위로 실행된 SQL을 세어서 쿼리 예산 초과와 N+1을 잡아내는 리스너입니다.
+// - 트랜잭션당 SQL 개수가 sql-guard.max-statements-per-transaction을 넘는 경우
+// - 값만 다른 같은 모양의 SQL이 sql-guard.repeat-threshold번 이상 반복되는 경우
+//   (ex. 회원 목록 조회 후 member.getTeam().getName()마다 tbl_team SELECT가 한 번씩 나가는 경우)
+// 트랜잭션 밖(auto commit)에서 실행된 SQL은 검사하지 않습니다.
+// REQUIRES_NEW로 바깥 트랜잭션이 보류(suspend)되면 바깥 집계도 함께 치워 두었다가 재개(resume)될 때 되돌립니다.
+// 그래서 안쪽 트랜잭션의 SQL은 안쪽 트랜잭션의 예산으로만 계산됩니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class P6SpyQueryGuard extends JdbcEventListener {
+
+    private final P6SpyQueryGuardProperties properties;
+
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        record(statementInformation.getSql());
+    }
+
+    void record(String sql) {
+        if (!properties.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            scope = new Scope();
+            currentScope.set(scope);
+            TransactionSynchronizationManager.registerSynchronization(new ScopeSynchronization(scope));
+        }
+        scope.total++;
+        int max = properties.getMaxStatementsPerTransaction();
+        if (max > 0 && scope.total == max + 1) {
+            violation("트랜잭션 하나에서 실행한 SQL이 " + max + "개를 넘었습니다.");
+        }
+        int threshold = properties.getRepeatThreshold();
+        if (threshold > 0) {
+            String shape = P6SpySqlNormalizer.shapeOf(sql);
+            int repeated = scope.shapes.merge(shape, 1, Integer::sum);
+            if (repeated == threshold) {
+                violation("N+1 의심: 같은 모양의 SQL이 " + threshold + "번 반복되었습니다. " + shape);
+            }
+        }
+    }
+
+    private void violation(String message) {
+        if (properties.getAction() == P6SpyQueryGuardProperties.Action.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    // 트랜잭션 하나에 등록되어 그 트랜잭션의 집계를 보류/재개/정리합니다.
+    private class ScopeSynchronization implements TransactionSynchronization {
+
+        private final Scope scope;
+
+        private ScopeSynchronization(Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public void suspend() {
+            currentScope.remove();
+        }
+
+        @Override
+        public void resume() {
+            currentScope.set(scope);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            currentScope.remove();
+        }
+    }
+
+    // 트랜잭션 하나 동안의 집계 (해당 트랜잭션 스레드에서만 사용)
+    private static class Scope {
+        private int total;
+        private final Map<String, Integer> shapes = new HashMap<>();
+    }
+
+    public static class QueryBudgetExceededException extends RuntimeException {
+        public QueryBudgetExceededException(String message) {
+            super(message);
+        }
+    }
+}
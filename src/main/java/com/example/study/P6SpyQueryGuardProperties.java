@@ -0,0 +1,30 @@
+package com.example.study;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 트랜잭션당 SQL 개수 / N+1 감지 설정 (application.yml의 sql-guard.*)
+@Getter @Setter
+@ToString
+@Component
+@ConfigurationProperties(prefix = "sql-guard")
+public class P6SpyQueryGuardProperties {
+
+    private boolean enabled = true;
+
+    // 트랜잭션 하나에서 실행할 수 있는 SQL 개수. 0이면 제한하지 않습니다.
+    private int maxStatementsPerTransaction = 0;
+
+    // 값만 다른 같은 모양의 SQL이 트랜잭션 안에서 이 횟수 이상 실행되면 N+1로 판단합니다. 0이면 검사하지 않습니다.
+    private int repeatThreshold = 10;
+
+    private Action action = Action.WARN;
+
+    public enum Action {
+        WARN,   // 로그만 남김 (운영)
+        FAIL    // QueryBudgetExceededException 발생 (테스트/CI)
+    }
+}
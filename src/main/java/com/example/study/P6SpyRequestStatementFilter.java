@@ -0,0 +1,40 @@
+package com.example.study;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// HTTP 요청 하나가 실행한 SQL 개수를 기록합니다. (/actuator/metrics/jdbc.statements.per.request)
+// 요청을 처리하는 스레드의 P6SpyQueryCounter 값을 요청 시작 시 0으로 맞추고, 끝날 때 기록합니다.
+@Component
+public class P6SpyRequestStatementFilter extends OncePerRequestFilter {
+
+    private final P6SpyQueryCounter queryCounter;
+    private final DistributionSummary statementsPerRequest;
+
+    public P6SpyRequestStatementFilter(P6SpyQueryCounter queryCounter, MeterRegistry registry) {
+        this.queryCounter = queryCounter;
+        this.statementsPerRequest = DistributionSummary.builder("jdbc.statements.per.request")
+                .description("JDBC statements executed while handling one HTTP request")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementsPerRequest.record(queryCounter.getCount());
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.study;
 
 import com.p6spy.engine.logging.Category;
-import com.p6spy.engine.spy.P6SpyOptions;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import jakarta.annotation.PostConstruct;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Locale;
@@ -12,14 +12,18 @@ import java.util.Locale;
 @Configuration
 public class P6SpySqlFormatter implements MessageFormattingStrategy {
 
+    // 테스트에서는 스프링 없이 new로 만들어 쓰므로 생성자 주입 대신 필드 주입을 사용합니다.
+    @Autowired
+    private P6SpyLogProperties logProperties;
+
     @PostConstruct
-    public void setLogMessageFormat() {
-        P6SpyOptions.getActiveInstance().setLogMessageFormat(this.getClass().getName());
+    public void configureLogger() {
+        P6SpySqlLogger.configure(logProperties);
     }
 
+    // 동기 모드에서는 JDBC를 실행한 스레드에서, 비동기 모드에서는 P6SpySqlLogger의 백그라운드 스레드에서 호출됩니다.
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
-        sql = formatSql(category, sql);
         return String.format("[%s] | %d ms | %s", category, elapsed, formatSql(category, sql));
     }
 
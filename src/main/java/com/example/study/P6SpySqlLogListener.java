@@ -0,0 +1,73 @@
+package com.example.study;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.Loggable;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.p6spy.engine.logging.Category;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// SQL 로그를 남길지(threshold, 샘플링, 에러)를 SQL 문자열을 만들기 전에 결정하는 리스너입니다.
+// p6spy 기본 로깅(LoggingEventListener -> P6LogQuery)은 appender를 부르기 전에 getSqlWithValues()로
+// 바인딩 값을 채운 SQL과 시간 문자열부터 만들기 때문에, appender에서 걸러도 그 비용은 이미 JDBC 스레드가 치른 뒤입니다.
+// 그래서 p6spy 로깅 모듈은 끄고(decorator.datasource.p6spy.enable-logging: false),
+// 이 리스너를 통과한 SQL만 렌더링해서 P6SpySqlLogger로 넘깁니다.
+@Component
+public class P6SpySqlLogListener extends SimpleJdbcEventListener {
+
+    private final P6SpyLogProperties properties;
+    private final P6SpySqlLogger logger;
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    public P6SpySqlLogListener(P6SpyLogProperties properties, P6SpySqlFormatter formatter) {
+        this(properties, new P6SpySqlLogger());
+        logger.setStrategy(formatter);
+    }
+
+    P6SpySqlLogListener(P6SpyLogProperties properties, P6SpySqlLogger logger) {
+        this.properties = properties;
+        this.logger = logger;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        log(statementInformation, timeElapsedNanos, e == null ? Category.STATEMENT : Category.ERROR);
+    }
+
+    @Override
+    public void onAfterCommit(ConnectionInformation connectionInformation, long timeElapsedNanos, SQLException e) {
+        log(connectionInformation, timeElapsedNanos, e == null ? Category.COMMIT : Category.ERROR);
+    }
+
+    @Override
+    public void onAfterRollback(ConnectionInformation connectionInformation, long timeElapsedNanos, SQLException e) {
+        log(connectionInformation, timeElapsedNanos, e == null ? Category.ROLLBACK : Category.ERROR);
+    }
+
+    void log(Loggable loggable, long timeElapsedNanos, Category category) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(timeElapsedNanos);
+        // 남기지 않을 SQL은 바인딩 값 치환이나 문자열 생성 없이 여기서 바로 돌아갑니다.
+        if (!shouldLog(elapsed, category)) {
+            return;
+        }
+        ConnectionInformation connection = loggable.getConnectionInformation();
+        logger.logSQL(connection.getConnectionId(), String.valueOf(System.currentTimeMillis()), elapsed, category,
+                loggable.getSql(), loggable.getSqlWithValues(), connection.getUrl());
+    }
+
+    private boolean shouldLog(long elapsed, Category category) {
+        P6SpyLogProperties current = properties;
+        if (!current.isEnabled()) {
+            return false;
+        }
+        if (elapsed >= current.getThresholdMs() || Category.ERROR.equals(category)) {
+            return true;
+        }
+        int sampleRate = current.getSampleRate();
+        return sampleRate > 0 && sampleCounter.incrementAndGet() % sampleRate == 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.study;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.FormattedLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// SQL 로그를 출력하는 appender 입니다. 남길지 말지는 P6SpySqlLogListener가 SQL을 렌더링하기 전에 이미 결정했습니다.
+// 기본(동기) 모드는 p6spy의 Slf4JLogger처럼 그 자리에서 포맷팅(P6SpySqlFormatter) 후 출력합니다.
+// 비동기 모드에서는 JDBC를 실행한 스레드가 원본 값만 링 버퍼에 넣고 바로 돌아가며,
+// 무거운 SQL 포맷팅과 로그 출력은 백그라운드 스레드 하나가 처리합니다.
+// 비동기 설정은 static으로 전달받습니다. (P6SpySqlFormatter가 스프링 설정 로딩 후 호출)
+public class P6SpySqlLogger extends FormattedLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("p6spy");
+
+    private static volatile P6SpyLogProperties properties = new P6SpyLogProperties();
+
+    private final Consumer<String> sink;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile P6SpyLogRingBuffer<SqlLogEvent> buffer;
+    private final Lock lock = new ReentrantLock();
+    private final Lock drainLock = new ReentrantLock();
+
+    public P6SpySqlLogger() {
+        this(log::info);
+    }
+
+    P6SpySqlLogger(Consumer<String> sink) {
+        this.sink = sink;
+    }
+
+    // 스프링 설정이 로딩되면 P6SpySqlFormatter가 호출합니다.
+    static void configure(P6SpyLogProperties properties) {
+        P6SpySqlLogger.properties = properties;
+    }
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category,
+                       String prepared, String sql, String url) {
+        SqlLogEvent event = new SqlLogEvent(connectionId, now, elapsed, category, prepared, sql, url);
+        if (properties.isAsync()) {
+            enqueue(event);
+        } else {
+            write(event);
+        }
+    }
+
+    @Override
+    public void logException(Exception e) {
+        log.info("", e);
+    }
+
+    @Override
+    public void logText(String text) {
+        sink.accept(text);
+    }
+
+    @Override
+    public boolean isCategoryEnabled(Category category) {
+        if (Category.ERROR.equals(category)) {
+            return log.isErrorEnabled();
+        } else if (Category.WARN.equals(category)) {
+            return log.isWarnEnabled();
+        } else if (Category.DEBUG.equals(category)) {
+            return log.isDebugEnabled();
+        }
+        return log.isInfoEnabled();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void write(SqlLogEvent e) {
+        logText(strategy.formatMessage(e.connectionId(), e.now(), e.elapsed(), e.category().toString(),
+                e.prepared(), e.sql(), e.url()));
+    }
+
+    private void enqueue(SqlLogEvent event) {
+        P6SpyLogRingBuffer<SqlLogEvent> buffer = startWriterIfNeeded();
+        while (!buffer.offer(event)) {
+            if (properties.getOverflowPolicy() == P6SpyLogProperties.OverflowPolicy.DROP) {
+                dropped.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(50_000L); // BLOCK: 백그라운드 스레드가 비울 때까지 잠깐씩 대기
+        }
+    }
+
+    private P6SpyLogRingBuffer<SqlLogEvent> startWriterIfNeeded() {
+        P6SpyLogRingBuffer<SqlLogEvent> current = buffer;
+        if (current != null) {
+            return current;
+        }
+        // 최초 1회만 진입. JDBC를 호출한 가상 스레드가 고정(pinning)되지 않도록 synchronized 대신 Lock을 씁니다.
+        lock.lock();
+        try {
+            if (buffer == null) {
+                P6SpyLogRingBuffer<SqlLogEvent> created = new P6SpyLogRingBuffer<>(properties.getBufferSize());
+                Thread thread = new Thread(() -> drainLoop(created), "p6spy-async-logger");
+                thread.setDaemon(true);
+                thread.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(created)));
+                buffer = created;
+            }
+            return buffer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainLoop(P6SpyLogRingBuffer<SqlLogEvent> buffer) {
+        long reportedDrops = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (drain(buffer) == 0) {
+                LockSupport.parkNanos(1_000_000L); // 비어 있으면 1ms 쉬고 다시 확인
+            }
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                log.warn("SQL 로그 버퍼가 가득 차서 {}건의 로그를 버렸습니다. (누적)", drops);
+                reportedDrops = drops;
+            }
+        }
+    }
+
+    // 소비자는 writer 스레드 하나뿐이지만, 종료 훅에서도 남은 로그를 비우기 위해 동기화합니다.
+    private int drain(P6SpyLogRingBuffer<SqlLogEvent> buffer) {
+        drainLock.lock();
+        try {
+            int count = 0;
+            SqlLogEvent event;
+            while ((event = buffer.poll()) != null) {
+                try {
+                    write(event);
+                } catch (RuntimeException e) {
+                    log.warn("SQL 로그 출력 실패", e);
+                }
+                count++;
+            }
+            return count;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // 로그 한 건에 필요한 원본 값 (포맷팅 전)
+    private record SqlLogEvent(int connectionId, String now, long elapsed, Category category,
+                               String prepared, String sql, String url) {
+    }
+}
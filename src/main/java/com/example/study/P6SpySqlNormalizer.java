@@ -0,0 +1,67 @@
+package com.example.study;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// SQL을 "모양" 단위로 묶기 위해 값(리터럴)을 지운 형태로 바꿉니다.
+// ex) select ... where user_name='member1' and age in (10, 20, 30)
+//  -> select ... where user_name=? and age in (?)
+// prepared statement는 이미 ?로 되어 있지만, 리터럴이 직접 들어간 SQL이나 길이가 다른 IN 목록도 같은 모양으로 묶입니다.
+public final class P6SpySqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 원본 SQL -> 모양 캐시 크기. 리터럴이나 IN 목록 길이만 다른 원본 SQL은 계속 생길 수 있으므로
+    // 크기를 제한하고 오래 안 쓰인 것부터 버립니다. (버려진 SQL은 다음에 다시 정규화할 뿐 결과는 같음)
+    static final int MAX_RAW_SQL = 10_000;
+    // 서로 다른 모양의 최대 개수 (메트릭 태그 개수 제한). 이미 등록된 모양은 계속 그대로 반환하고,
+    // 새 모양이 이보다 많아지면 그 모양만 OTHER로 묶습니다.
+    static final int MAX_SHAPES = 500;
+    public static final String OTHER = "other";
+
+    private static final Cache<String, String> RAW_TO_SHAPE = Caffeine.newBuilder()
+            .maximumSize(MAX_RAW_SQL)
+            .build();
+    private static final Set<String> SHAPES = ConcurrentHashMap.newKeySet();
+
+    private P6SpySqlNormalizer() {
+    }
+
+    // 같은 SQL 문자열은 한 번만 정규화합니다. (매 실행마다 정규식을 돌리지 않도록)
+    public static String shapeOf(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        return RAW_TO_SHAPE.get(sql, P6SpySqlNormalizer::register);
+    }
+
+    private static String register(String sql) {
+        String shape = normalize(sql);
+        if (SHAPES.contains(shape)) {
+            return shape;
+        }
+        // 상한 근처에서 동시에 등록되면 몇 개 더 들어갈 수 있지만, 태그 개수 제한 용도로는 충분합니다.
+        if (SHAPES.size() >= MAX_SHAPES) {
+            return OTHER;
+        }
+        SHAPES.add(shape);
+        return shape;
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("in (?)");
+        return WHITESPACE.matcher(result).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.study.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// @Cacheable, @CacheEvict 등 스프링 캐시 애너테이션을 사용하기 위한 설정
+// 캐시 종류/크기/만료 시간은 application.yml의 spring.cache 설정을 따릅니다.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
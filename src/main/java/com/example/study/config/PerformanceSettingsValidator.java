@@ -0,0 +1,123 @@
+package com.example.study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// 애플리케이션 시작 후 커넥션 풀 / 드라이버 / 하이버네이트 성능 설정이 서로 맞는지 확인하고, 어긋난 부분을 경고합니다.
+// 설정 자체를 바꾸거나 시작을 막지는 않습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceSettingsValidator {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        List<String> warnings = check();
+        warnings.forEach(w -> log.warn("[성능 설정] {}", w));
+        if (warnings.isEmpty()) {
+            log.info("[성능 설정] 확인 완료: 경고 없음");
+        }
+    }
+
+    List<String> check() {
+        List<String> warnings = new ArrayList<>();
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Map<String, Object> hibernate = sessionFactory.getProperties();
+        int batchSize = intValue(hibernate.get("hibernate.jdbc.batch_size"));
+
+        // 1. IDENTITY 전략 엔티티는 INSERT마다 생성된 id를 받아야 해서 하이버네이트가 INSERT 배치를 하지 않습니다.
+        if (batchSize > 1) {
+            List<String> identityEntities = new ArrayList<>();
+            sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+                if (persister.getGenerator() != null && persister.getGenerator().generatedOnExecution()) {
+                    identityEntities.add(persister.getEntityName());
+                }
+            });
+            if (!identityEntities.isEmpty()) {
+                warnings.add("hibernate.jdbc.batch_size=" + batchSize + " 이지만 IDENTITY id를 쓰는 엔티티는 INSERT가 배치되지 않습니다: "
+                        + identityEntities + " (대량 등록은 MemberBulkInsertService를 사용하세요)");
+            }
+        }
+        if (batchSize > 1 && !Boolean.parseBoolean(String.valueOf(hibernate.get("hibernate.order_inserts")))) {
+            warnings.add("hibernate.jdbc.batch_size가 켜져 있지만 hibernate.order_inserts가 꺼져 있어 엔티티 종류가 섞이면 배치가 끊깁니다.");
+        }
+
+        HikariDataSource hikari = unwrapHikari();
+        if (hikari == null) {
+            return warnings;
+        }
+        Properties driver = new Properties();
+        driver.putAll(hikari.getDataSourceProperties());
+        String url = hikari.getJdbcUrl() == null ? "" : hikari.getJdbcUrl();
+        boolean rewriteBatched = isOn(driver, url, "rewriteBatchedStatements");
+        boolean serverPrep = isOn(driver, url, "useServerPrepStmts");
+        boolean cachePrep = isOn(driver, url, "cachePrepStmts");
+
+        // 2. 배치를 켜도 MySQL 드라이버가 문장을 합치지 않으면 행마다 왕복이 생깁니다.
+        if (batchSize > 1 && url.startsWith("jdbc:mysql") && !rewriteBatched) {
+            warnings.add("hibernate.jdbc.batch_size가 켜져 있지만 rewriteBatchedStatements=true가 없어 배치가 한 문장으로 합쳐지지 않습니다.");
+        }
+        // 3. 서버 측 prepare만 켜고 캐시를 끄면 SQL마다 prepare/close 왕복이 추가되어 오히려 느려집니다.
+        if (serverPrep && !cachePrep) {
+            warnings.add("useServerPrepStmts=true 이지만 cachePrepStmts가 꺼져 있어 매번 서버에서 다시 prepare 합니다.");
+        }
+        // 4. 최소 유휴 커넥션이 최대보다 작으면 부하가 몰릴 때 커넥션을 새로 맺느라 지연이 생깁니다.
+        if (hikari.getMinimumIdle() < hikari.getMaximumPoolSize()) {
+            warnings.add("hikari minimum-idle(" + hikari.getMinimumIdle() + ") < maximum-pool-size("
+                    + hikari.getMaximumPoolSize() + "): 고정 크기 풀을 권장합니다.");
+        }
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 5. 가상 스레드는 요청 수만큼 늘어나므로 커넥션을 기다리는 요청이 풀 앞에 무한정 쌓일 수 있습니다.
+            if (hikari.getConnectionTimeout() > 5000) {
+                warnings.add("가상 스레드 사용 중인데 hikari connection-timeout이 " + hikari.getConnectionTimeout()
+                        + "ms 입니다. 커넥션 대기 요청이 쌓이지 않도록 짧게(수 초) 설정하세요.");
+            }
+        }
+        return warnings;
+    }
+
+    private HikariDataSource unwrapHikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    // 드라이버 속성은 data-source-properties 또는 JDBC URL 파라미터 어느 쪽으로도 줄 수 있습니다.
+    private boolean isOn(Properties driver, String url, String key) {
+        return Boolean.parseBoolean(String.valueOf(driver.getProperty(key)))
+                || url.contains(key + "=true");
+    }
+
+    private int intValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.example.study.config;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 // QueryDSL 문법을 사용하기 위한 필수 객체인 JPAQueryFactory 의 빈등록을 위한 클래스
 // 나중에 여러 개의 repository 에서 QueryDSL 을 사용하기 위한 빈 등록
@@ -15,9 +17,19 @@ public class QuerydslConfig {
     private EntityManager entityManager;
 
     @Bean
+    @Primary // JPAQueryFactory 타입으로 주입받으면 이 빈이 들어갑니다.
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    // 조회 전용 쿼리 팩토리 (읽기 전용 힌트, flush 생략, fetch size, 타임아웃이 모든 쿼리에 적용됨)
+    // ReadOnlyQueryFactory 타입으로 주입받아서 사용합니다. (읽기 전용이 필요한 메서드에서만 골라서)
+    @Bean
+    public ReadOnlyQueryFactory readOnlyQueryFactory(
+            @Value("${querydsl.read-only.fetch-size:100}") int fetchSize,
+            @Value("${querydsl.read-only.query-timeout-ms:10000}") int queryTimeoutMillis) {
+        return new ReadOnlyQueryFactory(entityManager, fetchSize, queryTimeoutMillis);
+    }
 }
 
 
@@ -0,0 +1,39 @@
+package com.example.study.config;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+
+// 조회 전용 JPAQueryFactory
+// 이 팩토리로 만든 모든 쿼리에 아래 힌트가 자동으로 붙습니다.
+// - org.hibernate.readOnly : 조회한 엔티티의 스냅샷을 만들지 않고 변경 감지도 하지 않음 (수정해도 UPDATE 되지 않음)
+// - FlushMode.MANUAL       : 쿼리 실행 전에 영속성 컨텍스트를 flush 하지 않음
+// - fetch size, query timeout
+// 조회한 엔티티를 수정해서 저장해야 하는 경우에는 일반 JPAQueryFactory나 findById()로 다시 조회해야 합니다.
+// 기존 조회 메서드의 동작을 바꾸지 않도록, 필요한 곳(MemberRepositoryImpl의 *ReadOnly 메서드, 스트리밍 조회)에서만 사용합니다.
+public class ReadOnlyQueryFactory extends JPAQueryFactory {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    private final int queryTimeoutMillis;
+
+    public ReadOnlyQueryFactory(EntityManager entityManager, int fetchSize, int queryTimeoutMillis) {
+        super(entityManager);
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+    }
+
+    // select(), selectFrom(), from() 모두 이 메서드로 쿼리를 만듭니다.
+    @Override
+    public JPAQuery<?> query() {
+        return new JPAQuery<Void>(entityManager)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, queryTimeoutMillis);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.study.config;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 복제본(replica)이 primary보다 몇 초 뒤처져 있는지 확인하는 방법
+// 확인할 수 없으면(복제 중단, 접속 실패 등) Long.MAX_VALUE를 반환해서 읽기 대상에서 빠지게 합니다.
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    long lagSeconds(DataSource replica);
+
+    // MySQL 8.0.22 이상은 SHOW REPLICA STATUS, 그 이전 버전은 SHOW SLAVE STATUS를 사용합니다.
+    static ReplicaLagProbe mysql() {
+        return replica -> {
+            try (Connection con = replica.getConnection(); Statement st = con.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SHOW REPLICA STATUS")) {
+                    return readLag(rs, "Seconds_Behind_Source");
+                } catch (SQLException e) {
+                    try (ResultSet rs = st.executeQuery("SHOW SLAVE STATUS")) {
+                        return readLag(rs, "Seconds_Behind_Master");
+                    }
+                }
+            } catch (SQLException e) {
+                return Long.MAX_VALUE;
+            }
+        };
+    }
+
+    private static long readLag(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            // 복제 설정이 없는 서버 (RESET REPLICA ALL 이후이거나 replica가 아닌 서버를 잘못 지정한 경우)
+            return Long.MAX_VALUE;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? Long.MAX_VALUE : lag; // NULL = 복제 스레드 중단
+    }
+}
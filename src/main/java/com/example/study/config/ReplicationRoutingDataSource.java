@@ -0,0 +1,76 @@
+package com.example.study.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// @Transactional(readOnly = true) 안에서는 replica로, 그 외에는 primary로 커넥션을 보내는 DataSource
+// - replica가 여러 개면 정상인 것들 사이에서 돌아가며(round robin) 고릅니다.
+// - 복제 지연이 maxLagSeconds를 넘는 replica는 refreshLag() 이후 읽기 대상에서 빠지고,
+//   정상 replica가 하나도 없으면 primary에서 읽습니다.
+// - 생성 시에는 replica에 접속하지 않습니다. (replica 장애로 애플리케이션 시작이 막히지 않도록)
+//   첫 refreshLag()가 끝나기 전까지는 모든 읽기가 primary로 갑니다.
+// 트랜잭션의 readOnly 여부는 트랜잭션 시작 뒤에 결정되므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Map<String, DataSource> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                        ReplicaLagProbe lagProbe, long maxLagSeconds) {
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.replicas = Map.copyOf(replicas);
+        this.lagProbe = lagProbe;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    // 각 replica의 복제 지연을 확인해서 읽기 대상 목록을 갱신합니다. (RoutingDataSourceConfig가 주기적으로 호출)
+    public void refreshLag() {
+        List<String> healthy = new ArrayList<>();
+        for (String key : replicaKeys) {
+            long lag = lagProbe.lagSeconds(replicas.get(key));
+            if (lag <= maxLagSeconds) {
+                healthy.add(key);
+            } else if (healthyReplicas.contains(key)) {
+                log.warn("replica {} 복제 지연 {}초: 읽기 대상에서 제외합니다.", key, lag == Long.MAX_VALUE ? "알 수 없음" : lag);
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// datasource-routing.enabled=true일 때 읽기 전용 트랜잭션을 replica로 보내는 DataSource를 등록합니다.
+// JPAQueryFactory / EntityManager는 그대로 하나이고, 커넥션을 가져오는 시점에 primary/replica가 결정됩니다.
+// primary와 replica 커넥션 풀은 빈으로 등록하지 않습니다. (p6spy가 바깥 DataSource 하나만 감싸도록)
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties, RoutingDataSourceProperties routing,
+                                 Environment environment) {
+        HikariDataSource primary = pool("primary", primaryProperties.determineUrl(),
+                primaryProperties.determineUsername(), primaryProperties.determinePassword(), environment);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            RoutingDataSourceProperties.Replica replica = routing.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+            replicas.put(name, pool(name, replica.getUrl(), replica.getUsername(), replica.getPassword(), environment));
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primary, replicas, ReplicaLagProbe.mysql(), routing.getMaxLagSeconds());
+        // 첫 확인도 백그라운드 스레드에서 바로 시작합니다. (그동안 읽기는 primary)
+        long interval = routing.getLagCheckIntervalSeconds();
+        lagChecker.scheduleWithFixedDelay(routingDataSource::refreshLag, 0, interval, TimeUnit.SECONDS);
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 각 풀은 spring.datasource.hikari.* 설정(풀 크기, 드라이버 속성 등)을 공통으로 사용합니다.
+    private HikariDataSource pool(String name, String url, String username, String password, Environment environment) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pools.add(pool);
+        return pool;
+    }
+
+    @PreDestroy
+    public void close() {
+        lagChecker.shutdownNow();
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기/쓰기 분리 설정 (application.yml의 datasource-routing.*)
+// primary는 기존 spring.datasource.* 설정을 그대로 사용합니다.
+@Getter @Setter
+@ToString(exclude = "replicas")
+@ConfigurationProperties(prefix = "datasource-routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    // 이 시간(초)보다 복제가 뒤처진 replica에서는 읽지 않습니다.
+    private long maxLagSeconds = 5;
+
+    // 복제 지연 확인 주기(초)
+    private long lagCheckIntervalSeconds = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
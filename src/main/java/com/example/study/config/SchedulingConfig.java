@@ -0,0 +1,10 @@
+package com.example.study.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (팀 통계 재계산 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
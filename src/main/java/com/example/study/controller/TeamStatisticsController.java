@@ -0,0 +1,33 @@
+package com.example.study.controller;
+
+import com.example.study.dto.TeamStatistics;
+import com.example.study.service.TeamStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 팀 대시보드 통계 API
+@RestController
+@RequestMapping("/api/teams")
+@RequiredArgsConstructor
+public class TeamStatisticsController {
+
+    private final TeamStatisticsService teamStatisticsService;
+
+    // GET /api/teams/stats : 전체 팀의 회원 수, 나이 합계/평균/최소/최대
+    @GetMapping("/stats")
+    public List<TeamStatistics> findAll() {
+        return teamStatisticsService.findAll();
+    }
+
+    // GET /api/teams/{teamId}/stats
+    @GetMapping("/{teamId}/stats")
+    public ResponseEntity<TeamStatistics> findByTeamId(@PathVariable Long teamId) {
+        return ResponseEntity.of(teamStatisticsService.findByTeamId(teamId));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.study.dto;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+// 평균 나이와 비교하는 방향 (평균보다 많은/평균 이상/평균보다 적은)
+public enum AgeComparison {
+
+    ABOVE(">"),
+    AT_OR_ABOVE(">="),
+    BELOW("<");
+
+    private final String operator;
+
+    AgeComparison(String operator) {
+        this.operator = operator;
+    }
+
+    // 네이티브 SQL에 들어가는 비교 연산자 (상수라서 SQL 인젝션 위험 없음)
+    public String operator() {
+        return operator;
+    }
+
+    public BooleanExpression compare(NumberExpression<Integer> age, double averageAge) {
+        return switch (this) {
+            case ABOVE -> age.gt(averageAge);
+            case AT_OR_ABOVE -> age.goe(averageAge);
+            case BELOW -> age.lt(averageAge);
+        };
+    }
+}
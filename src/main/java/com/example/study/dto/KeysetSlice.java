@@ -0,0 +1,33 @@
+package com.example.study.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이징 결과 한 조각(slice)입니다.
+// nextCursor가 null이면 더 이상 조회할 데이터가 없다는 뜻입니다.
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    // size + 1개를 조회한 결과를 받아서, 초과분이 있으면 다음 커서를 만들어 줍니다.
+    public static <T> KeysetSlice<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetSlice<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new KeysetSlice<>(content, cursorOf.apply(content.get(size - 1)));
+    }
+}
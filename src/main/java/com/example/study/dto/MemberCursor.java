@@ -0,0 +1,69 @@
+package com.example.study.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋(seek) 페이징에서 마지막으로 조회한 행의 정렬 키와 id를 담는 커서입니다.
+// 클라이언트에게는 Base64 문자열(불투명 토큰)로만 전달되므로 내부 구조가 노출되지 않습니다.
+// 정렬 키가 null인 행(예: user_name이 없는 회원)도 있으므로 키 앞에 null 여부 표시(N/V)를 붙여서 구분합니다.
+// ("null"이라는 이름과 null 값이 같은 커서가 되지 않도록)
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberCursor {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char NULL_KEY = 'N';
+    private static final char VALUE_KEY = 'V';
+
+    private final String key; // null이면 정렬 키가 null인 행
+    private final Long id;
+
+    public static String encode(Object key, Long id) {
+        String raw = (key == null ? String.valueOf(NULL_KEY) : VALUE_KEY + key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            char flag = raw.charAt(0);
+            if (flag == NULL_KEY && idx == 1) {
+                return new MemberCursor(null, Long.valueOf(raw.substring(idx + 1)));
+            }
+            if (flag != VALUE_KEY) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return new MemberCursor(raw.substring(1, idx), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 변환 실패(NumberFormatException)를 모두 여기서 처리합니다.
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    public boolean isKeyNull() {
+        return key == null;
+    }
+
+    // 숫자 정렬 키(나이 등)용 커서에서만 사용합니다. 이름 커서 등이 잘못 전달되면 IllegalArgumentException이 발생합니다.
+    public int getKeyAsInt() {
+        if (key == null) {
+            throw new IllegalArgumentException("숫자 정렬 키가 아닌 커서입니다: key=null, id=" + id);
+        }
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자 정렬 키가 아닌 커서입니다: key=" + key + ", id=" + id, e);
+        }
+    }
+}
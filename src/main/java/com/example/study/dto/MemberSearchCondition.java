@@ -0,0 +1,20 @@
+package com.example.study.dto;
+
+import lombok.*;
+
+// 회원 검색 조건입니다. 값이 null(또는 빈 문자열)인 조건은 WHERE절에서 빠집니다.
+// 정렬과 페이징은 Pageable로 따로 전달합니다. (정렬 가능 속성: id, userName, age)
+@Getter @Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSearchCondition {
+
+    private String namePrefix;      // userName LIKE 'xxx%'
+    private String nameContains;    // userName LIKE '%xxx%'
+    private Integer ageGoe;         // age >= ?
+    private Integer ageLoe;         // age <= ?
+    private String teamName;        // team.name = ?
+
+}
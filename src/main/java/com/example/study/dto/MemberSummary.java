@@ -0,0 +1,29 @@
+package com.example.study.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+// 조회 전용 회원 DTO입니다.
+// 엔티티를 조회하면 영속성 컨텍스트에 엔티티 + 스냅샷 + 팀 프록시가 함께 올라가지만,
+// DTO로 바로 조회하면 필요한 컬럼만 담긴 가벼운 객체 하나만 만들어집니다.
+// @QueryProjection을 붙이면 QMemberSummary가 Q클래스와 같은 위치(src/main/generated)에 생성됩니다.
+@Getter
+@ToString
+@EqualsAndHashCode
+public class MemberSummary {
+
+    private final Long id;
+    private final String userName;
+    private final int age;
+    private final String teamName;
+
+    @QueryProjection
+    public MemberSummary(Long id, String userName, int age, String teamName) {
+        this.id = id;
+        this.userName = userName;
+        this.age = age;
+        this.teamName = teamName;
+    }
+}
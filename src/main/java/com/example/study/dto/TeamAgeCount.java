@@ -0,0 +1,15 @@
+package com.example.study.dto;
+
+import lombok.*;
+
+// (팀, 나이)별 회원 수. 팀 통계를 처음부터 다시 계산할 때 사용합니다.
+@Getter
+@ToString
+@AllArgsConstructor
+public class TeamAgeCount {
+
+    private final Long teamId;
+    private final int age;
+    private final long count;
+
+}
@@ -0,0 +1,21 @@
+package com.example.study.dto;
+
+import lombok.*;
+
+// 팀별 회원 나이 통계 (TeamStatisticsService 응답)
+// 회원이 없는 팀은 memberCount가 0이고 평균/최소/최대는 null입니다.
+@Getter
+@ToString
+@AllArgsConstructor
+@With
+public class TeamStatistics {
+
+    private final Long teamId;
+    private final String teamName;
+    private final long memberCount;
+    private final long ageSum;
+    private final Double averageAge;
+    private final Integer minAge;
+    private final Integer maxAge;
+
+}
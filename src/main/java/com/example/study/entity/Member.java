@@ -9,7 +9,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_member")
+// 인덱스는 Flyway 마이그레이션(db/migration/V2)으로 만들어지며, 여기에는 같은 내용을 적어 둡니다.
+@Table(name = "tbl_member", indexes = {
+        @Index(name = "idx_member_user_name", columnList = "user_name"),
+        @Index(name = "idx_member_age_id", columnList = "age, member_id"),
+        @Index(name = "idx_member_team_age", columnList = "team_id, age")
+})
 public class Member {
 
     @Id
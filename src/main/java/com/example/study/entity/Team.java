@@ -2,6 +2,8 @@ package com.example.study.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,7 +14,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_team")
+@Table(name = "tbl_team", indexes = @Index(name = "idx_team_name", columnList = "name"))
+// 팀은 거의 변경되지 않으므로 2차 캐시에 올려 둡니다.
+// READ_WRITE: 이름 변경 등 수정이 커밋되면 캐시도 함께 갱신됩니다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
 
     @Id
@@ -0,0 +1,35 @@
+package com.example.study.loadtest;
+
+import java.util.Arrays;
+
+// 요청별 응답 시간(ns)을 모아서 백분위수를 계산합니다. (nearest-rank 방식)
+public record LatencyStats(long count, long errors, double throughput,
+                           long p50, long p90, long p99, long p999, long max) {
+
+    public static LatencyStats of(long[] latencyNanos, long errors, long elapsedNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new LatencyStats(sorted.length, errors, seconds == 0 ? 0 : sorted.length / seconds,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    static long percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    // ex) 1,234 req/s  p50=1.20ms p90=2.50ms p99=8.10ms p99.9=20.00ms max=31.00ms  (요청 37,020, 에러 0)
+    public String format() {
+        return String.format("%,.0f req/s  p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms  (요청 %,d, 에러 %,d)",
+                throughput, millis(p50), millis(p90), millis(p99), millis(p999), millis(max), count, errors);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
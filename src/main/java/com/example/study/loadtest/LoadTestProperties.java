@@ -0,0 +1,40 @@
+package com.example.study.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 부하 테스트 설정 (application-loadtest.yml의 load-test.*)
+@Getter @Setter
+@ToString
+@Component
+@Profile("loadtest")
+@ConfigurationProperties(prefix = "load-test")
+public class LoadTestProperties {
+
+    // true면 시작할 때 MemberDataGenerator로 데이터를 먼저 채웁니다. (빈 DB 기준)
+    private boolean generate = false;
+    private long seed = 42;
+    private int teams = 100;
+    private long members = 100_000;
+    private int writerThreads = 4;
+
+    // 동시에 요청을 보내는 클라이언트 수
+    private int clients = 50;
+    private ThreadModel threadModel = ThreadModel.VIRTUAL;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 30;
+
+    // 실행할 시나리오 (LoadTestScenario 이름)
+    private List<LoadTestScenario> scenarios = List.of(LoadTestScenario.values());
+
+    public enum ThreadModel {
+        PLATFORM,   // 클라이언트마다 플랫폼(OS) 스레드
+        VIRTUAL     // 클라이언트마다 가상 스레드 (Java 21)
+    }
+}
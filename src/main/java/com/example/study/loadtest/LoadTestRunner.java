@@ -0,0 +1,116 @@
+package com.example.study.loadtest;
+
+import com.example.study.repository.MemberRepository;
+import com.example.study.service.MemberDataGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 로컬에서 운영 규모의 부하를 재현하는 실행기입니다. (--spring.profiles.active=loadtest)
+// 1. load-test.generate=true면 MemberDataGenerator로 데이터를 채우고
+// 2. 시나리오마다 clients개의 클라이언트가 워밍업 후 duration 동안 리포지토리를 쉬지 않고 호출한 뒤
+// 3. 처리량과 응답 시간 백분위수(p50/p90/p99/p99.9/max)를 로그로 출력합니다.
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private final LoadTestProperties properties;
+    private final MemberDataGenerator dataGenerator;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("[부하 테스트] 설정: {}", properties);
+        if (properties.isGenerate()) {
+            dataGenerator.generate(properties.getSeed(), properties.getTeams(),
+                    properties.getMembers(), properties.getWriterThreads());
+        }
+        long members = memberRepository.count();
+
+        for (LoadTestScenario scenario : properties.getScenarios()) {
+            run(scenario, members, properties.getWarmupSeconds()); // 워밍업 (결과 버림)
+            THREADS.resetPeakThreadCount();
+            LatencyStats stats = run(scenario, members, properties.getDurationSeconds());
+            log.info("[부하 테스트] {} (클라이언트 {}, {}): {}  플랫폼 스레드 최대 {}개, 힙 사용 {}MB",
+                    scenario, properties.getClients(), properties.getThreadModel(), stats.format(),
+                    THREADS.getPeakThreadCount(), MEMORY.getHeapMemoryUsage().getUsed() / (1024 * 1024));
+        }
+    }
+
+    LatencyStats run(LoadTestScenario scenario, long members, int seconds) throws InterruptedException {
+        int clients = properties.getClients();
+        ExecutorService executor = newClientExecutor(clients);
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        try {
+            List<Future<ClientResult>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                SplittableRandom random = new SplittableRandom(properties.getSeed() + i);
+                futures.add(executor.submit(() -> runClient(scenario, random, members, deadline)));
+            }
+            List<ClientResult> results = new ArrayList<>(clients);
+            for (Future<ClientResult> future : futures) {
+                results.add(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+            long[] latencies = results.stream()
+                    .flatMapToLong(r -> Arrays.stream(r.latencies(), 0, r.count()))
+                    .toArray();
+            long errors = results.stream().mapToLong(ClientResult::errors).sum();
+            return LatencyStats.of(latencies, errors, elapsed);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("부하 테스트 클라이언트 실행 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 클라이언트마다 스레드 하나. 플랫폼 스레드는 스레드마다 스택 메모리를 따로 잡기 때문에 수천 개부터 부담이 커집니다.
+    ExecutorService newClientExecutor(int clients) {
+        return properties.getThreadModel() == LoadTestProperties.ThreadModel.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(clients);
+    }
+
+    private ClientResult runClient(LoadTestScenario scenario, SplittableRandom random, long members, long deadline) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            long begin = System.nanoTime();
+            try {
+                scenario.call(memberRepository, random, members);
+            } catch (RuntimeException e) {
+                errors++;
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - begin;
+        }
+        return new ClientResult(latencies, count, errors);
+    }
+
+    private record ClientResult(long[] latencies, int count, long errors) {
+    }
+}
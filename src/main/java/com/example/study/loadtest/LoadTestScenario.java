@@ -0,0 +1,59 @@
+package com.example.study.loadtest;
+
+import com.example.study.dto.MemberCursor;
+import com.example.study.dto.MemberSearchCondition;
+import com.example.study.repository.MemberRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.SplittableRandom;
+
+// 부하 테스트에서 클라이언트가 반복 호출하는 요청 종류입니다.
+// 이름/나이는 MemberDataGenerator가 만든 데이터(member1 ~ memberN, 10~90세) 범위에서 무작위로 고릅니다.
+public enum LoadTestScenario {
+
+    FIND_BY_NAME {
+        @Override
+        void call(MemberRepository repository, SplittableRandom random, long members) {
+            repository.findByName(randomName(random, members));
+        }
+    },
+    FIND_USER {
+        @Override
+        void call(MemberRepository repository, SplittableRandom random, long members) {
+            repository.findUser(randomName(random, members), 10 + random.nextInt(81));
+        }
+    },
+    FIND_SUMMARY_BY_NAME {
+        @Override
+        void call(MemberRepository repository, SplittableRandom random, long members) {
+            repository.findSummaryByName(randomName(random, members));
+        }
+    },
+    SEARCH_PAGE {
+        @Override
+        void call(MemberRepository repository, SplittableRandom random, long members) {
+            int ageGoe = 10 + random.nextInt(60);
+            MemberSearchCondition condition = MemberSearchCondition.builder()
+                    .ageGoe(ageGoe)
+                    .ageLoe(ageGoe + 5)
+                    .teamName("team" + (1 + random.nextInt(10)))
+                    .build();
+            repository.searchPage(condition, PageRequest.of(random.nextInt(5), 20, Sort.by("id")));
+        }
+    },
+    KEYSET_SLICE {
+        @Override
+        void call(MemberRepository repository, SplittableRandom random, long members) {
+            // 임의의 (나이, id) 위치에서 다음 페이지를 조회
+            String cursor = MemberCursor.encode(10 + random.nextInt(81), 1 + random.nextLong(Math.max(1, members)));
+            repository.findSliceOrderByAge(cursor, 50);
+        }
+    };
+
+    abstract void call(MemberRepository repository, SplittableRandom random, long members);
+
+    private static String randomName(SplittableRandom random, long members) {
+        return "member" + (1 + random.nextLong(Math.max(1, members)));
+    }
+}
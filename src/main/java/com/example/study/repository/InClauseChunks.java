@@ -0,0 +1,41 @@
+package com.example.study.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// 여러 키로 조회할 때 IN 절에 넣을 키 목록을 나눕니다.
+// - 중복 키와 null은 제거하고, 최대 MAX_SIZE개씩 자릅니다.
+// - 각 묶음은 개수를 2의 거듭제곱(1, 2, 4, ... MAX_SIZE)으로 맞추고, 빈 자리는 마지막 키를 반복해서 채웁니다.
+// 키가 몇 개든 IN (?, ?, ...) 모양은 최대 log2(MAX_SIZE) + 1가지라서
+// 하이버네이트 쿼리 플랜 캐시와 MySQL prepared statement 캐시가 계속 재사용됩니다.
+final class InClauseChunks {
+
+    static final int MAX_SIZE = 256;
+
+    private InClauseChunks() {
+    }
+
+    static <K> List<List<K>> of(Collection<K> keys) {
+        return of(keys, MAX_SIZE);
+    }
+
+    static <K> List<List<K>> of(Collection<K> keys, int maxSize) {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.removeIf(k -> k == null);
+        List<List<K>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += maxSize) {
+            List<K> chunk = new ArrayList<>(distinct.subList(from, Math.min(distinct.size(), from + maxSize)));
+            K last = chunk.get(chunk.size() - 1);
+            int padded = Integer.highestOneBit(chunk.size()) == chunk.size()
+                    ? chunk.size()
+                    : Integer.highestOneBit(chunk.size()) << 1;
+            while (chunk.size() < padded) {
+                chunk.add(last);
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
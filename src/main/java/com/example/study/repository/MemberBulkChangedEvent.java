@@ -0,0 +1,6 @@
+package com.example.study.repository;
+
+// 벌크 연산/JDBC 대량 등록처럼 엔티티 이벤트 없이 회원 데이터가 바뀌었을 때 발행하는 이벤트입니다.
+// 회원 데이터로 미리 계산해 둔 값(팀 통계, 조회 캐시 등)을 다시 계산해야 한다는 신호로 사용합니다.
+public record MemberBulkChangedEvent(String operation, long affectedRows) {
+}
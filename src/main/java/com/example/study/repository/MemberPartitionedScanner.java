@@ -0,0 +1,160 @@
+package com.example.study.repository;
+
+import com.example.study.config.ReadOnlyQueryFactory;
+import com.example.study.entity.Member;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+import static com.example.study.entity.QMember.member;
+
+// 회원 전체(또는 조건에 맞는 회원)를 id 구간으로 나눠 여러 스레드에서 동시에 읽고, 결과를 합치는 실행기입니다.
+// 야간 재계산처럼 전체 테이블을 훑는 작업을 커넥션 하나, 스레드 하나로 처리하지 않기 위해 사용합니다.
+// - min/max(member.id)로 [min, max]를 partitions개의 구간으로 균등하게 나눕니다.
+// - 구간마다 별도의 읽기 전용 트랜잭션(= 별도의 EntityManager, 커넥션)에서 id 순서로 chunkSize씩 키셋 조회합니다.
+//   청크마다 영속성 컨텍스트를 비우므로 메모리 사용량은 chunkSize * 스레드 수로 제한됩니다.
+// - 구간별 결과는 accumulator로 누적하고, 마지막에 구간 순서대로 combiner로 합칩니다. (Stream.reduce와 같은 규칙)
+// 동시에 실행되는 구간 수는 member-scan.threads로 제한됩니다. (커넥션 풀 크기보다 작게)
+@Slf4j
+@Component
+public class MemberPartitionedScanner {
+
+    private final ReadOnlyQueryFactory readQueryFactory;
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    public MemberPartitionedScanner(ReadOnlyQueryFactory readQueryFactory,
+                                    EntityManager em,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${member-scan.threads:4}") int threads,
+                                    @Value("${member-scan.chunk-size:1000}") int chunkSize) {
+        this.readQueryFactory = readQueryFactory;
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "member-scan-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // condition에 null을 넘기면 전체 회원이 대상입니다.
+    // identity는 구간마다 새로 만들어지므로 HashMap 같은 변경 가능한 객체를 누적해도 구간끼리 섞이지 않습니다.
+    // ex) 팀별 회원 수: scan(4, null, HashMap::new, (map, m) -> {...; return map;}, (a, b) -> {...; return a;})
+    public <R> R scan(int partitions, Predicate condition, Supplier<R> identity,
+                      BiFunction<R, Member, R> accumulator, BinaryOperator<R> combiner) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions는 1 이상이어야 합니다: " + partitions);
+        }
+        Tuple range = readOnlyTx.execute(status -> readQueryFactory
+                .select(member.id.min(), member.id.max())
+                .from(member)
+                .where(condition)
+                .fetchOne());
+        Long min = range == null ? null : range.get(member.id.min());
+        Long max = range == null ? null : range.get(member.id.max());
+        if (min == null || max == null) {
+            return identity.get();
+        }
+
+        long start = System.nanoTime();
+        // 끝나는 순서대로 결과를 받아서, 어느 구간이든 먼저 실패하면 바로 나머지를 취소합니다.
+        // (구간 0이 오래 걸리는 동안 뒤 구간의 실패를 놓치지 않도록)
+        CompletionService<Partial<R>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Partial<R>>> futures = new ArrayList<>(partitions);
+        long span = max - min + 1;
+        for (int i = 0; i < partitions; i++) {
+            long from = min + span * i / partitions;
+            long to = min + span * (i + 1) / partitions - 1; // 포함
+            if (from > to) {
+                continue; // 구간 수가 id 개수보다 많은 경우
+            }
+            int index = futures.size();
+            futures.add(completion.submit(() ->
+                    new Partial<>(index, scanPartition(from, to, condition, identity.get(), accumulator))));
+        }
+
+        try {
+            // combiner는 교환법칙을 요구하지 않으므로 결과는 구간 순서대로 모아서 합칩니다.
+            List<R> partials = new ArrayList<>(Collections.nCopies(futures.size(), null));
+            for (int done = 0; done < futures.size(); done++) {
+                Partial<R> partial = completion.take().get();
+                partials.set(partial.index(), partial.value());
+            }
+            R result = null;
+            for (R partial : partials) {
+                result = result == null ? partial : combiner.apply(result, partial);
+            }
+            log.debug("[분할 스캔] id {} ~ {}, 구간 {}개, {}ms", min, max, futures.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return result == null ? identity.get() : result;
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("분할 스캔이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException("분할 스캔 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private record Partial<R>(int index, R value) {
+    }
+
+    // 구간 [from, to]를 id 순서로 chunkSize씩 읽습니다. (OFFSET 없이 마지막 id 다음부터)
+    private <R> R scanPartition(long from, long to, Predicate condition, R identity,
+                                BiFunction<R, Member, R> accumulator) {
+        return readOnlyTx.execute(status -> {
+            R result = identity;
+            long lastId = from - 1;
+            while (true) {
+                List<Member> chunk = readQueryFactory
+                        .selectFrom(member)
+                        .where(member.id.gt(lastId), member.id.loe(to), condition)
+                        .orderBy(member.id.asc())
+                        .limit(chunkSize)
+                        .fetch();
+                for (Member m : chunk) {
+                    result = accumulator.apply(result, m);
+                }
+                if (chunk.size() < chunkSize || Thread.currentThread().isInterrupted()) {
+                    return result;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+                em.clear();
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,10 +1,101 @@
 package com.example.study.repository;
+import com.example.study.dto.AgeComparison;
+import com.example.study.dto.KeysetSlice;
+import com.example.study.dto.MemberSearchCondition;
+import com.example.study.dto.MemberSummary;
+import com.example.study.dto.TeamAgeCount;
 import com.example.study.entity.Member;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 public interface MemberRepositoryCustom {
     // JPA꺼 아니에요!!! 상속 안받았어요!!!
     List<Member> findByName(String name);
 
+    // 여러 이름을 한 번에 조회합니다. 결과는 입력한 이름을 키로 하고, 없는 이름은 빈 리스트입니다.
+    // 키가 많으면 IN 절을 나눠서(최대 256개, 2의 거듭제곱 개수로 맞춤) 여러 번 조회합니다.
+    Map<String, List<Member>> findAllByNames(Collection<String> names);
+
     List<Member> findUser(String nameParam, Integer ageParam);
 
+    // 화면 표시처럼 조회만 하는 곳에서 골라 쓰는 읽기 전용 버전입니다.
+    // 스냅샷을 만들지 않고 쿼리 전에 flush 하지도 않으므로, 아직 flush 안 된 변경은 보이지 않고
+    // 반환된 엔티티를 수정해도 DB에 반영되지 않습니다.
+    List<Member> findByNameReadOnly(String name);
+
+    List<Member> findUserReadOnly(String nameParam, Integer ageParam);
+
+    // 여러 조건을 조합한 동적 검색입니다. 정렬/페이징은 pageable로 지정합니다. (condition이 null이면 조건 없음)
+    List<Member> search(MemberSearchCondition condition, Pageable pageable);
+
+    // search()의 페이지 버전입니다. 전체 개수가 필요할 때만 COUNT 쿼리를 실행합니다.
+    // (첫 페이지인데 size보다 적게 조회됐거나, 마지막 페이지인 경우에는 COUNT 쿼리를 생략)
+    Page<Member> searchPage(MemberSearchCondition condition, Pageable pageable);
+
+    // 팀 정보까지 함께 사용할 때는 fetch join 버전을 사용합니다.
+    // 회원을 조회하면서 팀을 한 번에 가져오므로 getTeam().getName() 호출 시 추가 SELECT가 나가지 않습니다. (N+1 방지)
+    List<Member> findByNameWithTeam(String name);
+
+    List<Member> findUserWithTeam(String nameParam, Integer ageParam);
+
+    // 읽기 전용 화면용: 엔티티 대신 필요한 컬럼만 DTO로 바로 조회합니다. (영속성 컨텍스트에 아무것도 남지 않음)
+    List<MemberSummary> findSummaryByName(String name);
+
+    List<MemberSummary> findUserSummary(String nameParam, Integer ageParam);
+
+    // 키셋(seek) 페이징: OFFSET 없이 마지막으로 본 (정렬키, id) 다음부터 size개를 조회합니다.
+    // 첫 페이지는 cursor에 null을 전달하고, 이후에는 반환된 nextCursor를 그대로 넘기면 됩니다.
+    KeysetSlice<Member> findSliceOrderByUserName(String cursor, int size);
+
+    KeysetSlice<Member> findSliceOrderByAge(String cursor, int size);
+
+    // 대용량 조회용 스트리밍 메서드입니다. 결과를 List로 모두 메모리에 올리지 않고 한 행씩 흘려보냅니다.
+    // Stream을 반환하는 메서드는 반드시 호출한 쪽 트랜잭션 안에서 try-with-resources로 사용해야 커넥션이 정리됩니다.
+    // (트랜잭션 없이 호출하면 IllegalTransactionStateException, 트랜잭션이 없다면 forEachUser를 사용)
+    // 일정 건수마다 영속성 컨텍스트를 비우므로, 이미 지나간 엔티티는 준영속 상태가 됩니다.
+    Stream<Member> streamByName(String name);
+
+    Stream<Member> streamUser(String nameParam, Integer ageParam);
+
+    void forEachUser(String nameParam, Integer ageParam, Consumer<Member> action);
+
+    // 벌크 연산: 엔티티를 하나씩 조회/수정하지 않고 UPDATE, DELETE 한 문장으로 처리합니다.
+    // 벌크 연산은 영속성 컨텍스트를 거치지 않고 DB에 바로 반영되므로,
+    // 실행 전에 flush하고 실행 후에는 영속성 컨텍스트와 2차 캐시를 비웁니다. (이미 조회한 엔티티는 준영속이 됨)
+    // 반환값은 변경/삭제된 행 수입니다.
+
+    // condition에 null을 넘기면 전체 회원이 대상입니다.
+    long bulkIncrementAge(Predicate condition);
+
+    // fromTeamId에 null을 넘기면 팀이 없는 회원을, toTeamId에 null을 넘기면 소속 팀이 없는 상태로 바꿉니다.
+    long bulkMoveTeam(Long fromTeamId, Long toTeamId);
+
+    long deleteByAgeOver(int age);
+
+    // 평균 나이와 비교하는 조회입니다. (JPAExpressions.select(memberSub.age.avg()) 서브쿼리를 대신함)
+    // 서브쿼리 방식은 WHERE절마다 AVG를 위해 테이블을 한 번 더 읽으므로, 평균을 먼저 한 번만 구해서 값으로 바인딩합니다.
+
+    // 회원이 없으면 null
+    Double averageAge();
+
+    // 이미 구해 둔(캐시된) 평균과 비교합니다. (MemberQueryService.findByAgeComparedToAverage)
+    List<Member> findByAgeComparedTo(AgeComparison comparison, double averageAge);
+
+    List<MemberSummary> findSummaryByAgeComparedTo(AgeComparison comparison, double averageAge);
+
+    // 평균을 구하는 쿼리 + 비교 쿼리, 두 번 실행합니다.
+    List<Member> findByAgeComparedToAverage(AgeComparison comparison);
+
+    // 소속 팀 평균 나이와 비교합니다. 팀이 없는 회원은 제외합니다.
+    // AVG() OVER (PARTITION BY team_id) 윈도 함수로 팀별 평균을 한 번의 스캔에서 같이 구합니다. (네이티브 쿼리)
+    List<Member> findByAgeComparedToTeamAverage(AgeComparison comparison);
+
+    // (팀, 나이)별 회원 수입니다. 팀이 없는 회원은 제외합니다. (팀 통계 재계산용, 전체 테이블을 한 번 읽음)
+    List<TeamAgeCount> countByTeamAndAge();
+
 }
\ No newline at end of file
@@ -1,18 +1,78 @@
 package com.example.study.repository;
 
+import com.example.study.config.ReadOnlyQueryFactory;
+import com.example.study.dto.AgeComparison;
+import com.example.study.dto.KeysetSlice;
+import com.example.study.dto.MemberCursor;
+import com.example.study.dto.MemberSearchCondition;
+import com.example.study.dto.MemberSummary;
+import com.example.study.dto.QMemberSummary;
+import com.example.study.dto.TeamAgeCount;
 import com.example.study.entity.Member;
 import com.example.study.entity.QMember;
+import com.example.study.entity.Team;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import static com.example.study.entity.QMember.*;
+import static com.example.study.entity.QTeam.team;
 // QueryDSL용 인터페이스의 구현체는 반드시 이름이 Impl로 끝나야 자동으로 인식되어서
 // 원본 인터페이스 타입(MemberRepository)의 객체로도 사용이 가능합니다.
+// 조회 메서드는 모두 읽기 전용 트랜잭션으로 실행됩니다. (읽기/쓰기 분리 시 replica에서 조회)
+// 벌크 연산처럼 쓰기가 필요한 메서드에는 @Transactional을 따로 붙입니다.
+// 일반 조회 메서드는 기본 JPAQueryFactory를 사용하므로, 호출한 쪽의 쓰기 트랜잭션 안에서는
+// 쿼리 전에 자동 flush 되고 반환된 엔티티를 수정하면 변경 감지로 반영됩니다.
+// 읽기 전용 힌트(ReadOnlyQueryFactory)는 이름이 ReadOnly로 끝나는 메서드와 스트리밍 조회에만 붙습니다. (직접 골라서 사용)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
-    private final JPAQueryFactory queryFactory;
+
+    // 스트리밍 조회 시 JDBC 드라이버가 한 번에 가져오는 행 수
+    // (MySQL은 URL에 useCursorFetch=true가 있어야 fetch size가 적용됩니다.)
+    private static final int STREAM_FETCH_SIZE = 1000;
+    // 스트리밍 조회 시 몇 건마다 영속성 컨텍스트를 비울지
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+
+    // search()에서 정렬 가능한 속성 목록 (화이트리스트)
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+            "id", member.id,
+            "userName", member.userName,
+            "age", member.age
+    );
+
+    private final JPAQueryFactory queryFactory;          // 일반 조회, 벌크 연산
+    private final ReadOnlyQueryFactory readQueryFactory; // 읽기 전용 조회 (*ReadOnly, 스트리밍)
+    private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Member> findByName(String name) {
         return queryFactory
@@ -21,6 +81,42 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<Member> findByNameReadOnly(String name) {
+        return readQueryFactory
+                .selectFrom(member)
+                .where(member.userName.eq(name))
+                .fetch();
+    }
+
+    @Override
+    public List<Member> findUserReadOnly(String nameParam, Integer ageParam) {
+        return readQueryFactory
+                .selectFrom(member)
+                .where(nameEq(nameParam), ageEq(ageParam))
+                .fetch();
+    }
+
+    @Override
+    public Map<String, List<Member>> findAllByNames(Collection<String> names) {
+        Map<String, List<Member>> result = new LinkedHashMap<>();
+        names.forEach(name -> result.put(name, new ArrayList<>()));
+        for (List<String> chunk : InClauseChunks.of(names)) {
+            queryFactory
+                    .selectFrom(member)
+                    .where(member.userName.in(chunk))
+                    .fetch()
+                    .forEach(m -> {
+                        // DB 콜레이션이 대소문자를 구분하지 않으면 입력과 다른 표기의 이름이 섞여 올 수 있어 입력 키에 맞는 것만 담습니다.
+                        List<Member> members = result.get(m.getUserName());
+                        if (members != null) {
+                            members.add(m);
+                        }
+                    });
+        }
+        return result;
+    }
+
     @Override
     public List<Member> findUser(String nameParam, Integer ageParam) {
         return queryFactory
@@ -29,6 +125,349 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<Member> search(MemberSearchCondition condition, Pageable pageable) {
+        return searchQuery(condition, pageable).fetch();
+    }
+
+    @Override
+    public Page<Member> searchPage(MemberSearchCondition condition, Pageable pageable) {
+        List<Member> content = searchQuery(condition, pageable).fetch();
+        JPAQuery<Long> countQuery = searchCountQuery(condition);
+        // 조회 결과만으로 전체 개수를 알 수 있으면 countQuery는 실행되지 않습니다.
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // COUNT 쿼리는 ORDER BY와 fetch join 없이, 결과 행 수에 영향을 주는 조인(팀 이름 조건)만 남깁니다.
+    JPAQuery<Long> searchCountQuery(MemberSearchCondition cond) {
+        MemberSearchCondition condition = orEmpty(cond);
+        JPAQuery<Long> query = queryFactory
+                .select(member.count())
+                .from(member)
+                .where(searchPredicate(condition));
+        if (StringUtils.hasText(condition.getTeamName())) {
+            query.join(member.team, team);
+        }
+        return query;
+    }
+
+    // 검색 쿼리 조립
+    // 같은 조건 조합(어떤 조건이 들어있는지 + 정렬)이면 항상 같은 JPQL 문자열이 만들어지도록 조립 순서를 고정합니다.
+    // 검색 값은 리터럴이 아니라 바인딩 파라미터로 들어가고 LIMIT/OFFSET도 JPQL 밖에서 지정되므로,
+    // 하이버네이트의 쿼리 플랜 캐시와 MySQL 서버 측 prepared statement 캐시를 조건 조합별로 재사용할 수 있습니다.
+    JPAQuery<Member> searchQuery(MemberSearchCondition cond, Pageable pageable) {
+        MemberSearchCondition condition = orEmpty(cond);
+        JPAQuery<Member> query = queryFactory
+                .selectFrom(member)
+                .where(searchPredicate(condition))
+                .orderBy(searchOrder(pageable.getSort()));
+        if (StringUtils.hasText(condition.getTeamName())) {
+            // 팀 이름 조건이 있을 때만 조인합니다.
+            query.join(member.team, team);
+        }
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    // 검색 조건을 넘기지 않으면(null) 조건 없는 검색으로 취급합니다.
+    private MemberSearchCondition orEmpty(MemberSearchCondition condition) {
+        return condition != null ? condition : new MemberSearchCondition();
+    }
+
+    private BooleanBuilder searchPredicate(MemberSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (StringUtils.hasText(condition.getNamePrefix())) {
+            builder.and(member.userName.startsWith(condition.getNamePrefix()));
+        }
+        if (StringUtils.hasText(condition.getNameContains())) {
+            builder.and(member.userName.contains(condition.getNameContains()));
+        }
+        if (condition.getAgeGoe() != null) {
+            builder.and(member.age.goe(condition.getAgeGoe()));
+        }
+        if (condition.getAgeLoe() != null) {
+            builder.and(member.age.loe(condition.getAgeLoe()));
+        }
+        if (StringUtils.hasText(condition.getTeamName())) {
+            builder.and(team.name.eq(condition.getTeamName()));
+        }
+        return builder;
+    }
+
+    // Sort를 OrderSpecifier로 바꿉니다. 마지막에 id를 붙여서 같은 값끼리의 순서를 항상 고정합니다.
+    private OrderSpecifier<?>[] searchOrder(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = SORTABLE.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orders.add(order.isAscending() ? path.asc() : path.desc());
+            hasId |= path == member.id;
+        }
+        if (!hasId) {
+            orders.add(member.id.asc());
+        }
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    @Override
+    public List<Member> findByNameWithTeam(String name) {
+        return queryFactory
+                .selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin()
+                .where(member.userName.eq(name))
+                .fetch();
+    }
+
+    @Override
+    public List<Member> findUserWithTeam(String nameParam, Integer ageParam) {
+        return queryFactory
+                .selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin()
+                .where(nameEq(nameParam), ageEq(ageParam))
+                .fetch();
+    }
+
+    @Override
+    public List<MemberSummary> findSummaryByName(String name) {
+        return summaryQuery()
+                .where(member.userName.eq(name))
+                .fetch();
+    }
+
+    @Override
+    public List<MemberSummary> findUserSummary(String nameParam, Integer ageParam) {
+        return summaryQuery()
+                .where(nameEq(nameParam), ageEq(ageParam))
+                .fetch();
+    }
+
+    // 팀이 없는 회원도 조회되어야 하므로 LEFT JOIN 합니다. (팀 이름은 null)
+    private JPAQuery<MemberSummary> summaryQuery() {
+        return queryFactory
+                .select(new QMemberSummary(member.id, member.userName, member.age, team.name))
+                .from(member)
+                .leftJoin(member.team, team);
+    }
+
+    @Override
+    public KeysetSlice<Member> findSliceOrderByUserName(String cursor, int size) {
+        List<Member> rows = queryFactory
+                .selectFrom(member)
+                .where(userNameAfter(cursor))
+                .orderBy(member.userName.asc(), member.id.asc())
+                .limit(size + 1) // 다음 페이지 존재 여부를 알기 위해 1개를 더 조회
+                .fetch();
+        return KeysetSlice.of(rows, size, m -> MemberCursor.encode(m.getUserName(), m.getId()));
+    }
+
+    @Override
+    public KeysetSlice<Member> findSliceOrderByAge(String cursor, int size) {
+        List<Member> rows = queryFactory
+                .selectFrom(member)
+                .where(ageAfter(cursor))
+                .orderBy(member.age.asc(), member.id.asc())
+                .limit(size + 1)
+                .fetch();
+        return KeysetSlice.of(rows, size, m -> MemberCursor.encode(m.getAge(), m.getId()));
+    }
+
+    // 클래스의 @Transactional(readOnly = true)을 그대로 쓰면 호출한 쪽에 트랜잭션이 없을 때
+    // Stream을 돌려주는 순간 트랜잭션이 끝나 버리므로, 호출한 쪽 트랜잭션이 반드시 있어야 합니다.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Stream<Member> streamByName(String name) {
+        return clearEvery(streamQuery()
+                .where(member.userName.eq(name))
+                .stream());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Stream<Member> streamUser(String nameParam, Integer ageParam) {
+        return clearEvery(streamQuery()
+                .where(nameEq(nameParam), ageEq(ageParam))
+                .stream());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUser(String nameParam, Integer ageParam, Consumer<Member> action) {
+        try (Stream<Member> stream = streamUser(nameParam, ageParam)) {
+            stream.forEach(action);
+        }
+    }
+
+    private JPAQuery<Member> streamQuery() {
+        return readQueryFactory
+                .selectFrom(member)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+    }
+
+    // 앞의 행이 모두 소비된 뒤, 다음 행을 읽기 직전에 영속성 컨텍스트를 비웁니다.
+    // (행을 읽은 뒤에 비우면 방금 꺼낸 엔티티까지 준영속이 되어 버리기 때문)
+    // 덕분에 결과가 몇 건이든 영속성 컨텍스트에는 최대 STREAM_CLEAR_INTERVAL 건만 남습니다.
+    private Stream<Member> clearEvery(Stream<Member> source) {
+        Iterator<Member> iterator = source.iterator();
+        Spliterator<Member> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private long count;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Member> action) {
+                if (count > 0 && count % STREAM_CLEAR_INTERVAL == 0) {
+                    em.clear();
+                }
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                count++;
+                action.accept(iterator.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(source::close);
+    }
+
+    @Override
+    @Transactional
+    public long bulkIncrementAge(Predicate condition) {
+        em.flush();
+        long affected = queryFactory
+                .update(member)
+                .set(member.age, member.age.add(1))
+                .where(condition)
+                .execute();
+        clearAfterBulk("bulkIncrementAge", affected);
+        return affected;
+    }
+
+    @Override
+    @Transactional
+    public long bulkMoveTeam(Long fromTeamId, Long toTeamId) {
+        em.flush();
+        long affected = (toTeamId == null
+                ? queryFactory.update(member).setNull(member.team)
+                // 팀 엔티티를 조회하지 않고 id만 가진 참조(프록시)로 FK 값을 지정합니다.
+                : queryFactory.update(member).set(member.team, em.getReference(Team.class, toTeamId)))
+                // fromTeamId가 null이면 팀이 없는 회원이 대상입니다. (eq(null)은 QueryDSL에서 예외)
+                .where(fromTeamId == null ? member.team.isNull() : member.team.id.eq(fromTeamId))
+                .execute();
+        clearAfterBulk("bulkMoveTeam", affected);
+        return affected;
+    }
+
+    @Override
+    @Transactional
+    public long deleteByAgeOver(int age) {
+        em.flush();
+        long affected = queryFactory
+                .delete(member)
+                .where(member.age.gt(age))
+                .execute();
+        clearAfterBulk("deleteByAgeOver", affected);
+        return affected;
+    }
+
+    // 벌크 연산 이후에는 영속성 컨텍스트에 남아 있는 엔티티가 DB와 다른 값을 가지고 있으므로 비워 줍니다.
+    // 2차 캐시에 회원이 올라가 있을 수도 있으므로 Member 영역도 함께 제거합니다.
+    // 벌크 연산은 엔티티 이벤트를 거치지 않으므로 MemberBulkChangedEvent를 발행합니다. (회원 조회 캐시 비우기, 팀 통계 재계산)
+    private void clearAfterBulk(String operation, long affected) {
+        em.clear();
+        em.getEntityManagerFactory().getCache().evict(Member.class);
+        eventPublisher.publishEvent(new MemberBulkChangedEvent(operation, affected));
+    }
+
+    @Override
+    public Double averageAge() {
+        return queryFactory
+                .select(member.age.avg())
+                .from(member)
+                .fetchOne();
+    }
+
+    @Override
+    public List<Member> findByAgeComparedTo(AgeComparison comparison, double averageAge) {
+        return queryFactory
+                .selectFrom(member)
+                .where(comparison.compare(member.age, averageAge))
+                .fetch();
+    }
+
+    @Override
+    public List<MemberSummary> findSummaryByAgeComparedTo(AgeComparison comparison, double averageAge) {
+        return summaryQuery()
+                .where(comparison.compare(member.age, averageAge))
+                .fetch();
+    }
+
+    @Override
+    public List<Member> findByAgeComparedToAverage(AgeComparison comparison) {
+        Double average = averageAge();
+        return average == null ? List.of() : findByAgeComparedTo(comparison, average);
+    }
+
+    // JPQL은 FROM절 서브쿼리와 윈도 함수를 지원하지 않아서 네이티브 쿼리로 작성합니다. (MySQL 8 이상)
+    // 결과는 Member 엔티티로 매핑되므로 QueryDSL 조회 결과와 똑같이 사용할 수 있습니다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Member> findByAgeComparedToTeamAverage(AgeComparison comparison) {
+        String sql = "SELECT t.member_id, t.user_name, t.age, t.team_id"
+                + " FROM (SELECT m.member_id, m.user_name, m.age, m.team_id,"
+                + "              AVG(m.age) OVER (PARTITION BY m.team_id) AS team_avg"
+                + "       FROM tbl_member m"
+                + "       WHERE m.team_id IS NOT NULL) t"
+                + " WHERE t.age " + comparison.operator() + " t.team_avg"
+                + " ORDER BY t.member_id";
+        return em.createNativeQuery(sql, Member.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public List<TeamAgeCount> countByTeamAndAge() {
+        // member.team.id는 FK 컬럼이라 팀 테이블과 조인하지 않습니다.
+        return readQueryFactory
+                .select(Projections.constructor(TeamAgeCount.class, member.team.id, member.age, member.count()))
+                .from(member)
+                .where(member.team.isNotNull())
+                .groupBy(member.team.id, member.age)
+                .fetch();
+    }
+
+    // 키셋 조건: (key > 마지막key) OR (key = 마지막key AND id > 마지막id)
+    // 정렬 키가 같은 행이 여러 개여도 id로 순서가 확정되므로 누락/중복 없이 다음 페이지를 찾을 수 있습니다.
+    // 인덱스를 타고 바로 시작 위치를 찾기 때문에 페이지가 깊어져도 앞의 행을 읽고 버리지 않습니다.
+    private BooleanExpression userNameAfter(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        MemberCursor last = MemberCursor.decode(cursor);
+        // MySQL(H2 MySQL 모드 포함)은 오름차순 정렬에서 NULL을 맨 앞에 둡니다.
+        // 마지막 행의 이름이 null이면 남은 null 행(id가 더 큰 것)과 이름이 있는 모든 행이 다음 대상입니다.
+        if (last.isKeyNull()) {
+            return member.userName.isNull().and(member.id.gt(last.getId()))
+                    .or(member.userName.isNotNull());
+        }
+        return member.userName.gt(last.getKey())
+                .or(member.userName.eq(last.getKey()).and(member.id.gt(last.getId())));
+    }
+
+    private BooleanExpression ageAfter(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        MemberCursor last = MemberCursor.decode(cursor);
+        int lastAge = last.getKeyAsInt();
+        return member.age.gt(lastAge)
+                .or(member.age.eq(lastAge).and(member.id.gt(last.getId())));
+    }
+
     // WHERE절에 BooleanExpression을 리턴하는 메서드를 직접 작성합니다.
     // nameEq는 전달받은 값이 없다면 null을 리턴하고, 그렇지 않을 경우 논리 표현식 결과를 리턴합니다.
     // WHERE절에서는 null값인 경우 조건을 건너 뜁니다. (쿼리를 완성하지 않음)
@@ -38,7 +477,7 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     }
 
     private BooleanExpression nameEq(String nameParam) {
-        if (nameParam != null && nameParam.isEmpty()) {
+        if (StringUtils.hasText(nameParam)) {
             return member.userName.eq(nameParam);
         }
         return null;
@@ -1,7 +1,18 @@
 package com.example.study.repository;
 
 import com.example.study.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface TeamRepository extends JpaRepository<Team, Long> {
-}
\ No newline at end of file
+import java.util.List;
+
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
+
+    // 쿼리 캐시 사용: 같은 이름으로 다시 조회하면 DB에 가지 않습니다.
+    // tbl_team이 변경되면 하이버네이트가 이 쿼리 결과를 자동으로 무효화합니다.
+    // 팀 이름은 유일하지 않으므로(데이터 생성기가 team1, team2 ...를 반복해서 만들기도 함) 목록으로 반환합니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Team> findByName(String name);
+}
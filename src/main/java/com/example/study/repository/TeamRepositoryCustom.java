@@ -0,0 +1,13 @@
+package com.example.study.repository;
+
+import com.example.study.entity.Team;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TeamRepositoryCustom {
+
+    // 여러 id의 팀을 한 번에 조회합니다. 결과는 id를 키로 하고, 없는 id는 결과에 들어가지 않습니다.
+    // 키가 많으면 IN 절을 나눠서(최대 256개, 2의 거듭제곱 개수로 맞춤) 여러 번 조회합니다.
+    Map<Long, Team> findTeamsByIds(Collection<Long> ids);
+}
@@ -0,0 +1,33 @@
+package com.example.study.repository;
+
+import com.example.study.config.ReadOnlyQueryFactory;
+import com.example.study.entity.Team;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.study.entity.QTeam.team;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamRepositoryImpl implements TeamRepositoryCustom {
+
+    private final ReadOnlyQueryFactory readQueryFactory;
+
+    @Override
+    public Map<Long, Team> findTeamsByIds(Collection<Long> ids) {
+        Map<Long, Team> result = new LinkedHashMap<>();
+        for (List<Long> chunk : InClauseChunks.of(ids)) {
+            readQueryFactory
+                    .selectFrom(team)
+                    .where(team.id.in(chunk))
+                    .fetch()
+                    .forEach(t -> result.put(t.getId(), t));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.study.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// DataLoader 방식으로 키 하나짜리 조회를 모아서 한 번의 배치 조회로 실행합니다.
+// - load(key): 조회를 예약하고 Future를 돌려줍니다. 같은 키는 같은 Future를 공유합니다. (로더가 살아 있는 동안 캐시)
+// - dispatch(): 예약된 키를 모두 모아 batchFunction을 한 번 호출합니다. (호출한 스레드에서 실행)
+// - get(key): load 후 dispatch 하고 결과를 반환합니다.
+//   다른 스레드의 get()이 진행 중일 때만 window만큼 기다려서 그 요청들과 함께 조회합니다. (혼자면 바로 조회)
+// 여러 스레드가 동시에 get()을 호출하면 먼저 dispatch한 스레드가 모두의 키를 한 번에 조회하고, 나머지는 결과만 받습니다.
+// 결과 맵에 없는 키는 null로 완료됩니다. null 키는 지원하지 않습니다.
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+    private final long windowNanos;
+
+    private final Map<K, CompletableFuture<V>> futures = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final AtomicInteger inFlight = new AtomicInteger(); // 진행 중인 get() 호출 수
+    private List<K> pending = new ArrayList<>();
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction, int maxBatchSize, long windowNanos) {
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = windowNanos;
+    }
+
+    public CompletableFuture<V> load(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("BatchLoader는 null 키를 조회할 수 없습니다.");
+        }
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = futures.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        boolean full;
+        lock.lock();
+        try {
+            pending.add(key);
+            full = pending.size() >= maxBatchSize;
+        } finally {
+            lock.unlock();
+        }
+        if (full) {
+            dispatch();
+        }
+        return created;
+    }
+
+    public V get(K key) {
+        CompletableFuture<V> future = load(key);
+        boolean others = inFlight.getAndIncrement() > 0;
+        try {
+            if (others && !future.isDone() && windowNanos > 0) {
+                LockSupport.parkNanos(windowNanos);
+            }
+            dispatch();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public void dispatch() {
+        List<K> keys;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            keys = pending;
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Map<K, V> result = batchFunction.apply(keys);
+            keys.forEach(key -> futures.get(key).complete(result.get(key)));
+        } catch (Throwable e) {
+            // Error나 검사 예외가 던져져도 기다리는 쪽이 영원히 멈추지 않도록 모든 키를 실패로 완료합니다.
+            // 실패한 키는 캐시하지 않아서 다음 load()에서 다시 조회합니다.
+            keys.forEach(key -> {
+                CompletableFuture<V> future = futures.remove(key);
+                if (future != null) {
+                    future.completeExceptionally(e);
+                }
+            });
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+}
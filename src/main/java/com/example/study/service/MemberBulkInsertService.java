@@ -0,0 +1,100 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberBulkChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 회원/팀 대량 등록용 서비스입니다.
+// Member, Team은 IDENTITY 전략이라 JPA save()로는 INSERT를 배치로 묶을 수 없습니다. (INSERT마다 id를 받아와야 하기 때문)
+// 그래서 JPA를 거치지 않고 JdbcTemplate.batchUpdate로 청크 단위 배치 INSERT를 실행합니다.
+// MySQL URL에 rewriteBatchedStatements=true가 있으면 드라이버가 배치를 multi-row INSERT 한 문장으로 합쳐 보냅니다.
+@Service
+public class MemberBulkInsertService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO tbl_member (user_name, age, team_id) VALUES (?, ?, ?)";
+    private static final String INSERT_TEAM_SQL =
+            "INSERT INTO tbl_team (name) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTx;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MemberBulkInsertService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 쪽에 트랜잭션이 있어도 참여하지 않고, 청크마다 새 트랜잭션을 열어 바로 커밋합니다.
+        // (호출한 쪽 트랜잭션의 영속성 컨텍스트는 건드리지 않습니다. 아직 flush 하지 않은 JPA 변경은 이 INSERT에서 보이지 않습니다.)
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Iterable을 받기 때문에 전체 데이터를 List로 만들어 두지 않고 생성하면서 바로 넣을 수 있습니다.
+    // 청크마다 트랜잭션을 따로 커밋하므로(호출한 쪽 트랜잭션 안에서 호출해도 마찬가지), 중간에 실패하면 그 전까지의 청크는 저장된 상태로 남습니다.
+    // 저장된 행의 id는 채워지지 않습니다. 필요하면 다시 조회해야 합니다.
+    // 엔티티 이벤트를 거치지 않으므로 끝나면 MemberBulkChangedEvent를 발행합니다. (회원 조회 캐시 비우기, 팀 통계 재계산)
+    // 중간 청크에서 실패해도 앞에서 커밋된 청크가 있으면 발행한 뒤 예외를 그대로 던집니다.
+    public long insertMembers(Iterable<Member> members) {
+        AtomicLong inserted = new AtomicLong();
+        try {
+            insertInChunks(members, inserted, chunk -> jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, chunk, chunk.size(),
+                    (ps, m) -> {
+                        ps.setString(1, m.getUserName());
+                        ps.setInt(2, m.getAge());
+                        if (m.getTeam() != null && m.getTeam().getId() != null) {
+                            ps.setLong(3, m.getTeam().getId());
+                        } else {
+                            ps.setNull(3, Types.BIGINT);
+                        }
+                    }));
+            return inserted.get();
+        } finally {
+            if (inserted.get() > 0) {
+                eventPublisher.publishEvent(new MemberBulkChangedEvent("insertMembers", inserted.get()));
+            }
+        }
+    }
+
+    public long insertTeams(Iterable<Team> teams) {
+        AtomicLong inserted = new AtomicLong();
+        insertInChunks(teams, inserted, chunk -> jdbcTemplate.batchUpdate(INSERT_TEAM_SQL, chunk, chunk.size(),
+                (ps, t) -> ps.setString(1, t.getName())));
+        return inserted.get();
+    }
+
+    // 커밋된 청크의 행 수를 inserted에 더해 가므로, 예외가 나도 호출한 쪽에서 그때까지 저장된 건수를 알 수 있습니다.
+    private <T> void insertInChunks(Iterable<T> rows, AtomicLong inserted, ChunkWriter<T> writer) {
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                List<T> current = chunk;
+                chunkTx.executeWithoutResult(status -> writer.write(current));
+                inserted.addAndGet(current.size());
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<T> chunk);
+    }
+}
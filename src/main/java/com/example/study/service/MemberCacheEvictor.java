@@ -0,0 +1,105 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberBulkChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 회원이 등록/수정/삭제되면 회원 조회 캐시를 비웁니다.
+// - save(), 변경 감지, delete(): 하이버네이트 POST_COMMIT 이벤트 (TeamStatisticsListener와 같은 방식)
+// - 벌크 연산, JDBC 대량 등록: 리포지토리/서비스가 발행하는 MemberBulkChangedEvent
+// 엔티티와 리포지토리는 이 클래스를 모르고, 서비스 계층이 이벤트를 받아서 처리합니다.
+// 둘 다 커밋된 뒤에 비웁니다. (커밋 전에 비우면 그 사이 다른 요청이 이전 값을 다시 캐시에 넣을 수 있음)
+// 이름이 바뀐 경우 이전 이름으로 캐시된 결과도 틀려지므로 일부 키만 지우지 않고 캐시 전체를 비웁니다.
+// 캐시된 MemberSummary에는 팀 이름도 들어 있으므로 팀이 수정/삭제된 경우에도 비웁니다.
+// (새 팀이 등록되는 것만으로는 기존 회원 결과가 바뀌지 않음)
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictor implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Member.class || type == Team.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getPersister().getMappedClass() == Member.class) {
+            evictAll();
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            evictAll();
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            evictAll();
+        }
+    }
+
+    // 커밋에 실패한 변경은 캐시에 영향을 주지 않습니다.
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // 트랜잭션 밖에서 발행된 경우는 바로 비웁니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(MemberBulkChangedEvent event) {
+        evictAll();
+    }
+
+    public void evictAll() {
+        for (String name : new String[]{MemberQueryService.MEMBERS_BY_NAME, MemberQueryService.MEMBERS_BY_USER,
+                MemberQueryService.MEMBER_AVERAGE_AGE}) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+// 부하 테스트/벤치마크용 회원, 팀 데이터를 대량으로 생성합니다. (1만 ~ 5천만 건)
+// - 같은 seed면 몇 개의 스레드로 나눠 넣든 항상 같은 데이터가 만들어집니다. (행 번호마다 seed에서 난수를 다시 만듦)
+// - 팀 크기는 Zipf 분포라 앞쪽 팀에 회원이 몰리고, 나이는 20~30대에 몰리고 위쪽으로 꼬리가 긴 분포입니다.
+// - 저장은 MemberBulkInsertService(JDBC 배치 INSERT)를 구간별로 나눠 여러 스레드에서 동시에 실행합니다.
+// 빈 테이블에 넣는 것을 전제로 합니다. 회원 이름은 member1, member2 ... 순서로 붙습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDataGenerator {
+
+    // 스레드 하나가 한 번에 맡는 회원 수 (안에서는 CHUNK_SIZE 단위로 커밋)
+    static final int SLICE_SIZE = 100_000;
+
+    // 팀이 없는 회원 비율 (left join 결과에 null 팀이 섞이도록)
+    static final double NO_TEAM_RATIO = 0.01;
+
+    private final MemberBulkInsertService bulkInsertService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public long generate(long seed, int teams, long members, int threads) {
+        if (teams < 1 || members < 0 || threads < 1) {
+            throw new IllegalArgumentException("teams >= 1, members >= 0, threads >= 1 이어야 합니다.");
+        }
+        long start = System.nanoTime();
+        bulkInsertService.insertTeams(IntStream.rangeClosed(1, teams)
+                .mapToObj(i -> Team.builder().name("team" + i).build())
+                .toList());
+        // 방금 넣은 팀의 id (IDENTITY라 배치 INSERT 결과로는 받을 수 없어서 다시 조회)
+        List<Long> teamIds = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT team_id FROM tbl_team ORDER BY team_id DESC LIMIT ?", Long.class, teams));
+        teamIds.sort(null);
+
+        RowGenerator rows = new RowGenerator(seed, teamIds.stream().mapToLong(Long::longValue).toArray());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (long from = 0; from < members; from += SLICE_SIZE) {
+                long sliceFrom = from;
+                long sliceTo = Math.min(members, from + SLICE_SIZE);
+                futures.add(executor.submit(() -> bulkInsertService.insertMembers(() -> rows.iterator(sliceFrom, sliceTo))));
+            }
+            long inserted = 0;
+            for (Future<Long> future : futures) {
+                inserted += future.get();
+            }
+            log.info("[데이터 생성] 팀 {}개, 회원 {}명 ({}ms, 스레드 {}개, seed={})",
+                    teams, inserted, (System.nanoTime() - start) / 1_000_000, threads, seed);
+            return inserted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("데이터 생성 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 행 번호 -> 회원 데이터. 순수 함수라서 어떤 순서/스레드로 만들어도 같은 결과가 나옵니다.
+    static final class RowGenerator {
+
+        private static final double ZIPF_EXPONENT = 1.0;
+
+        private final long seed;
+        private final long[] teamIds;
+        private final double[] cumulative; // 팀별 Zipf 누적 확률
+
+        RowGenerator(long seed, long[] teamIds) {
+            this.seed = seed;
+            this.teamIds = teamIds;
+            this.cumulative = new double[teamIds.length];
+            double sum = 0;
+            for (int k = 0; k < teamIds.length; k++) {
+                sum += 1.0 / Math.pow(k + 1, ZIPF_EXPONENT);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < cumulative.length; k++) {
+                cumulative[k] /= sum;
+            }
+        }
+
+        Member row(long index) {
+            SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+            return Member.builder()
+                    .userName("member" + (index + 1))
+                    .age(age(random))
+                    .team(team(random))
+                    .build();
+        }
+
+        // 로그 정규분포: 중앙값 31세 정도, 10~90세로 자름
+        private int age(SplittableRandom random) {
+            long age = 20 + Math.round(Math.exp(2.4 + 0.5 * random.nextGaussian()));
+            return (int) Math.max(10, Math.min(90, age));
+        }
+
+        private Team team(SplittableRandom random) {
+            if (random.nextDouble() < NO_TEAM_RATIO) {
+                return null;
+            }
+            int k = Arrays.binarySearch(cumulative, random.nextDouble());
+            int index = Math.min(k < 0 ? -k - 1 : k, teamIds.length - 1);
+            return Team.builder().id(teamIds[index]).build();
+        }
+
+        Iterator<Member> iterator(long from, long to) {
+            return new Iterator<>() {
+                private long next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public Member next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return row(next++);
+                }
+            };
+        }
+    }
+}
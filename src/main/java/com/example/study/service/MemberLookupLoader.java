@@ -0,0 +1,55 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberRepository;
+import com.example.study.repository.TeamRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.List;
+
+// HTTP 요청 하나 동안 회원 이름/팀 id 단건 조회를 모아서 배치로 실행하는 로더입니다. (요청마다 새로 생성)
+// 같은 요청 안에서 여러 스레드(비동기 호출, 가상 스레드 등)가 동시에 단건 조회를 해도
+// findAllByNames / findTeamsByIds 한 번으로 합쳐지고, 같은 키를 다시 조회하면 DB에 가지 않습니다.
+// 조회 결과는 읽기 전용 엔티티입니다. 연관 엔티티(member.getTeam())는 teamById로 따로 조회하세요.
+@Component
+@RequestScope
+public class MemberLookupLoader {
+
+    static final int MAX_BATCH_SIZE = 256;
+    // 다른 스레드의 단건 조회가 합류하기를 기다리는 시간
+    static final long BATCH_WINDOW_NANOS = 1_000_000L;
+
+    private final BatchLoader<String, List<Member>> membersByName;
+    private final BatchLoader<Long, Team> teamById;
+
+    public MemberLookupLoader(MemberRepository memberRepository, TeamRepository teamRepository) {
+        this.membersByName = new BatchLoader<>(memberRepository::findAllByNames, MAX_BATCH_SIZE, BATCH_WINDOW_NANOS);
+        this.teamById = new BatchLoader<>(teamRepository::findTeamsByIds, MAX_BATCH_SIZE, BATCH_WINDOW_NANOS);
+    }
+
+    public List<Member> membersByName(String name) {
+        List<Member> members = membersByName.get(name);
+        return members == null ? List.of() : members;
+    }
+
+    // 없는 팀이면 null
+    public Team teamById(Long teamId) {
+        return teamById.get(teamId);
+    }
+
+    // 스코프 프록시는 요청 스레드에서만 동작하므로, 다른 스레드에서 쓸 때는 요청 스레드에서 꺼낸 이 객체를 넘깁니다.
+    public MemberLookupLoader current() {
+        return this;
+    }
+
+    // 여러 건을 예약만 해 두고 나중에 한 번에 실행하고 싶을 때 사용합니다.
+    public BatchLoader<String, List<Member>> membersByNameLoader() {
+        return membersByName;
+    }
+
+    public BatchLoader<Long, Team> teamByIdLoader() {
+        return teamById;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.study.service;
+
+import com.example.study.dto.AgeComparison;
+import com.example.study.dto.MemberSummary;
+import com.example.study.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+// 자주 호출되는 회원 조회(findByName, findUser)에 캐시를 씌운 서비스입니다.
+// 캐시에는 영속성 컨텍스트와 무관한 DTO(MemberSummary)만 담기 때문에 트랜잭션 밖에서 꺼내 써도 안전합니다.
+// 회원이 변경되면 MemberCacheEvictor가 캐시를 비웁니다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberQueryService {
+
+    public static final String MEMBERS_BY_NAME = "membersByName";
+    public static final String MEMBERS_BY_USER = "membersByUser";
+    public static final String MEMBER_AVERAGE_AGE = "memberAverageAge";
+
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(cacheNames = MEMBERS_BY_NAME)
+    public List<MemberSummary> findByName(String name) {
+        return List.copyOf(memberRepository.findSummaryByName(name));
+    }
+
+    // findUser는 빈 이름을 조건 없음(null)과 똑같이 취급하므로 키도 같게 맞춰서 캐시를 공유합니다.
+    @Cacheable(cacheNames = MEMBERS_BY_USER,
+            key = "T(com.example.study.service.MemberQueryService).userKey(#nameParam, #ageParam)")
+    public List<MemberSummary> findUser(String nameParam, Integer ageParam) {
+        return List.copyOf(memberRepository.findUserSummary(nameParam, ageParam));
+    }
+
+    // 전체 평균 나이는 캐시해 두고, 회원이 바뀌면 MemberCacheEvictor가 비웁니다.
+    // (같은 클래스 안에서 호출하기 때문에 @Cacheable 대신 캐시를 직접 사용)
+    public Double averageAge() {
+        Cache cache = cacheManager.getCache(MEMBER_AVERAGE_AGE);
+        if (cache == null) {
+            return memberRepository.averageAge();
+        }
+        return cache.get(SimpleKey.EMPTY, memberRepository::averageAge);
+    }
+
+    // 평균을 다시 계산하지 않고 나이 조건 쿼리 하나만 실행합니다.
+    public List<MemberSummary> findByAgeComparedToAverage(AgeComparison comparison) {
+        Double average = averageAge();
+        if (average == null) {
+            return List.of();
+        }
+        return List.copyOf(memberRepository.findSummaryByAgeComparedTo(comparison, average));
+    }
+
+    public static String userKey(String nameParam, Integer ageParam) {
+        String name = StringUtils.hasText(nameParam) ? nameParam : "";
+        return name + '\u0000' + (ageParam == null ? "" : ageParam);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// 회원 등록/수정/삭제를 팀 통계(TeamStatisticsStore)에 반영하는 하이버네이트 이벤트 리스너입니다.
+// JPA 엔티티 리스너(@PostUpdate 등)는 변경 전 값을 알 수 없어서 하이버네이트 이벤트를 직접 등록합니다.
+// POST_COMMIT 이벤트라서 커밋된 변경만 반영되고, 롤백된 트랜잭션은 통계에 영향을 주지 않습니다.
+@Component
+@RequiredArgsConstructor
+public class TeamStatisticsListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TeamStatisticsStore store;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Member.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            store.add(teamId(event.getPersister(), event.getState()), age(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        if (!requiresPostCommitHandling(persister)) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // 준영속 엔티티를 merge 없이 update한 경우 등 변경 전 값을 모르면 전체를 다시 계산합니다.
+            store.markStale();
+            return;
+        }
+        Long oldTeamId = teamId(persister, oldState);
+        Long newTeamId = teamId(persister, event.getState());
+        int oldAge = age(persister, oldState);
+        int newAge = age(persister, event.getState());
+        if (oldAge != newAge || !Objects.equals(oldTeamId, newTeamId)) {
+            store.remove(oldTeamId, oldAge);
+            store.add(newTeamId, newAge);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            store.remove(teamId(event.getPersister(), event.getDeletedState()),
+                    age(event.getPersister(), event.getDeletedState()));
+        }
+    }
+
+    // 커밋에 실패한 변경은 반영하지 않습니다.
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // 팀은 지연 로딩 프록시일 수 있지만 getId()는 초기화 없이 id만 돌려줍니다.
+    private Long teamId(EntityPersister persister, Object[] state) {
+        Object team = state[persister.getPropertyIndex("team")];
+        return team == null ? null : ((Team) team).getId();
+    }
+
+    private int age(EntityPersister persister, Object[] state) {
+        return (Integer) state[persister.getPropertyIndex("age")];
+    }
+}
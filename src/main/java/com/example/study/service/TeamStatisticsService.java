@@ -0,0 +1,73 @@
+package com.example.study.service;
+
+import com.example.study.dto.TeamStatistics;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberBulkChangedEvent;
+import com.example.study.repository.MemberRepository;
+import com.example.study.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 팀 대시보드용 통계 조회 서비스입니다.
+// 통계는 TeamStatisticsStore에 미리 계산되어 있어서 조회 비용은 회원 수와 관계없이 팀 수에만 비례합니다.
+// 재계산(GROUP BY 한 번)은 시작 시, 벌크 연산 이후, 그리고 매일 정해진 시간(team-stats.rebuild-cron)에 실행됩니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamStatisticsService {
+
+    private final TeamStatisticsStore store;
+    private final MemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+
+    // 회원이 없는 팀도 포함합니다. (팀은 2차 캐시에 있음)
+    public List<TeamStatistics> findAll() {
+        Map<Long, TeamStatistics> statistics = store.getAll();
+        return teamRepository.findAll().stream()
+                .map(t -> statistics.getOrDefault(t.getId(), TeamStatisticsStore.empty(t.getId()))
+                        .withTeamName(t.getName()))
+                .toList();
+    }
+
+    public Optional<TeamStatistics> findByTeamId(Long teamId) {
+        return teamRepository.findById(teamId)
+                .map(t -> store.get(teamId).withTeamName(t.getName()));
+    }
+
+    @Scheduled(cron = "${team-stats.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        store.rebuild(memberRepository::countByTeamAndAge);
+        log.info("[팀 통계] 재계산 완료 ({}ms)", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 벌크 연산이나 변경 전 값을 모르는 수정이 있었으면 다음 주기에 재계산합니다.
+    @Scheduled(fixedDelayString = "${team-stats.stale-check-interval:PT10S}")
+    public void rebuildIfStale() {
+        if (store.isStale()) {
+            rebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildIfStale();
+    }
+
+    // 벌크 연산이 커밋된 뒤에만 표시합니다. (트랜잭션 밖에서 발행된 경우는 바로)
+    // 재계산은 커밋한 요청 스레드가 아니라 스케줄러에서 실행됩니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(MemberBulkChangedEvent event) {
+        log.debug("[팀 통계] {} ({}건) 이후 재계산 예정", event.operation(), event.affectedRows());
+        store.markStale();
+    }
+}
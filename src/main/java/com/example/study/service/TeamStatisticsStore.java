@@ -0,0 +1,154 @@
+package com.example.study.service;
+
+import com.example.study.dto.TeamAgeCount;
+import com.example.study.dto.TeamStatistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 팀별 회원 나이 통계를 메모리에 들고 있는 저장소입니다.
+// 팀마다 나이별 회원 수(히스토그램)를 유지하기 때문에 회원이 삭제되어도 최소/최대 나이를 다시 조회하지 않고 구할 수 있습니다.
+// - 회원 등록/수정/삭제: TeamStatisticsListener가 커밋 이후 add/remove로 반영 (O(1))
+// - 벌크 연산 등으로 어긋났을 때: markStale() 후 rebuild()로 전체를 다시 계산 (O(회원 수), GROUP BY 한 번)
+// 팀이 없는 회원은 집계하지 않습니다.
+@Component
+public class TeamStatisticsStore {
+
+    private volatile Map<Long, AgeHistogram> teams = new ConcurrentHashMap<>();
+    private volatile boolean stale = true; // 시작 직후에는 아직 계산 전
+
+    // 재계산 중에 들어온 변경 (재계산 결과에 다시 적용)
+    private List<Change> pending;
+    private final Lock lock = new ReentrantLock();
+
+    public void add(Long teamId, int age) {
+        apply(new Change(teamId, age, 1));
+    }
+
+    public void remove(Long teamId, int age) {
+        apply(new Change(teamId, age, -1));
+    }
+
+    private void apply(Change change) {
+        if (change.teamId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            change.applyTo(teams);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void markStale() {
+        stale = true;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    // loader는 (팀, 나이)별 회원 수를 DB에서 읽어 옵니다. 읽는 동안 들어온 변경은 결과에 다시 적용한 뒤 교체합니다.
+    // (읽기 시작 직전에 커밋된 변경이 양쪽에 모두 반영될 수 있지만, 다음 재계산에서 바로잡힙니다.)
+    public void rebuild(Supplier<List<TeamAgeCount>> loader) {
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+            stale = false; // 재계산 중 다시 stale이 되면 다음 주기에 한 번 더 계산
+        } finally {
+            lock.unlock();
+        }
+        Map<Long, AgeHistogram> rebuilt = new ConcurrentHashMap<>();
+        try {
+            for (TeamAgeCount row : loader.get()) {
+                rebuilt.computeIfAbsent(row.getTeamId(), id -> new AgeHistogram())
+                        .add(row.getAge(), row.getCount());
+            }
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pending = null;
+                stale = true;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            pending.forEach(change -> change.applyTo(rebuilt));
+            pending = null;
+            teams = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public TeamStatistics get(Long teamId) {
+        AgeHistogram histogram = teams.get(teamId);
+        return histogram == null ? empty(teamId) : histogram.toStatistics(teamId);
+    }
+
+    public Map<Long, TeamStatistics> getAll() {
+        Map<Long, TeamStatistics> result = new HashMap<>();
+        teams.forEach((teamId, histogram) -> result.put(teamId, histogram.toStatistics(teamId)));
+        return result;
+    }
+
+    static TeamStatistics empty(Long teamId) {
+        return new TeamStatistics(teamId, null, 0, 0, null, null, null);
+    }
+
+    private record Change(Long teamId, int age, int delta) {
+        void applyTo(Map<Long, AgeHistogram> target) {
+            target.computeIfAbsent(teamId, id -> new AgeHistogram()).add(age, delta);
+        }
+    }
+
+    // 나이별 회원 수. 나이 범위가 작아서 배열 한 번 훑는 것으로 최소/최대를 구합니다.
+    static final class AgeHistogram {
+
+        private long[] counts = new long[128];
+        private long total;
+        private long sum;
+
+        synchronized void add(int age, long delta) {
+            int index = Math.max(0, age);
+            if (index >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+            }
+            // 재계산과 겹쳐 같은 삭제가 두 번 반영되더라도 음수가 되지 않도록
+            long applied = Math.max(delta, -counts[index]);
+            counts[index] += applied;
+            total += applied;
+            sum += applied * age;
+        }
+
+        synchronized TeamStatistics toStatistics(Long teamId) {
+            if (total == 0) {
+                return empty(teamId);
+            }
+            int min = 0;
+            while (counts[min] == 0) {
+                min++;
+            }
+            int max = counts.length - 1;
+            while (counts[max] == 0) {
+                max--;
+            }
+            return new TeamStatistics(teamId, null, total, sum, (double) sum / total, min, max);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- 회원/팀 테이블 (기존에 ddl-auto: update로 만들어진 DB는 baseline(V1)으로 처리되어 이 스크립트를 건너뜁니다.)
+CREATE TABLE IF NOT EXISTS tbl_team (
+    team_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(255),
+    PRIMARY KEY (team_id)
+);
+
+CREATE TABLE IF NOT EXISTS tbl_member (
+    member_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_name VARCHAR(255),
+    age       INTEGER      NOT NULL,
+    team_id   BIGINT,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_team FOREIGN KEY (team_id) REFERENCES tbl_team (team_id)
+);
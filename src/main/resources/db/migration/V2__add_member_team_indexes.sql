@@ -0,0 +1,9 @@
+-- QueryDSL 조회 패턴에 맞춘 인덱스
+-- findByName, findUser(이름), 이름 키셋 페이징
+CREATE INDEX idx_member_user_name ON tbl_member (user_name);
+-- findUser(나이), 나이 정렬/범위, 나이 키셋 페이징 (age, member_id 순서 그대로 읽음)
+CREATE INDEX idx_member_age_id ON tbl_member (age, member_id);
+-- 팀 조인/팀별 집계(GROUP BY team_id, age), 팀 평균 윈도 함수 (FK 인덱스 역할도 겸함)
+CREATE INDEX idx_member_team_age ON tbl_member (team_id, age);
+-- 팀 이름 조건 검색 (search의 teamName, TeamRepository.findByName)
+CREATE INDEX idx_team_name ON tbl_team (name);
@@ -0,0 +1,87 @@
+package com.example.study;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class P6SpyMetricsListenerTest {
+
+    private static final String SQL = "select m1_0.member_id from tbl_member m1_0 where m1_0.age=30";
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    P6SpyMetricsListener listener = new P6SpyMetricsListener(registry);
+    ConnectionInformation connection = mock(ConnectionInformation.class);
+
+    @Test
+    @DisplayName("ResultSet을 닫지 않고 statement만 닫아도 행 수가 기록되고 추적 항목이 지워진다")
+    void statementCloseWithoutResultSetClose() {
+        // given
+        StatementInformation statement = statement();
+        ResultSetInformation resultSet = new ResultSetInformation(statement);
+
+        // when - ResultSet.close() 없이 statement.close()
+        readRows(resultSet, 3);
+        listener.onAfterStatementClose(statement, null);
+
+        // then
+        assertEquals(0, listener.openResultSetCount());
+        DistributionSummary rows = registry.get("jdbc.statement.rows").summary();
+        assertEquals(1, rows.count());
+        assertEquals(3, rows.totalAmount());
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 그 커넥션의 statement에서 열린 ResultSet 항목이 모두 지워진다")
+    void connectionCloseClearsItsStatements() {
+        // given
+        StatementInformation first = statement();
+        StatementInformation second = statement();
+        readRows(new ResultSetInformation(first), 2);
+        readRows(new ResultSetInformation(second), 5);
+        StatementInformation other = new StatementInformation(mock(ConnectionInformation.class));
+        other.setStatementQuery(SQL);
+        readRows(new ResultSetInformation(other), 1);
+
+        // when
+        listener.onAfterConnectionClose(connection, null);
+
+        // then - 다른 커넥션의 항목만 남습니다.
+        assertEquals(1, listener.openResultSetCount());
+        assertEquals(7, registry.get("jdbc.statement.rows").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("ResultSet을 직접 닫으면 행이 없어도 0건으로 기록된다")
+    void resultSetClose() {
+        // given
+        ResultSetInformation resultSet = new ResultSetInformation(statement());
+
+        // when
+        readRows(resultSet, 0);
+        listener.onAfterResultSetClose(resultSet, null);
+
+        // then
+        assertEquals(0, listener.openResultSetCount());
+        assertEquals(1, registry.get("jdbc.statement.rows").summary().count());
+    }
+
+    private StatementInformation statement() {
+        StatementInformation statement = new StatementInformation(connection);
+        statement.setStatementQuery(SQL);
+        return statement;
+    }
+
+    private void readRows(ResultSetInformation resultSet, int rows) {
+        for (int i = 0; i < rows; i++) {
+            listener.onAfterResultSetNext(resultSet, 0, true, null);
+        }
+        listener.onAfterResultSetNext(resultSet, 0, false, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.study;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class P6SpyQueryGuardTest {
+
+    P6SpyQueryGuardProperties properties;
+    P6SpyQueryGuard guard;
+
+    @BeforeEach
+    void settingObject() {
+        properties = new P6SpyQueryGuardProperties();
+        properties.setAction(P6SpyQueryGuardProperties.Action.FAIL);
+        guard = new P6SpyQueryGuard(properties);
+        TransactionSynchronizationManager.initSynchronization(); // 트랜잭션 안이라고 가정
+    }
+
+    @AfterEach
+    void endTransaction() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("값만 다른 팀 조회가 반복되면 N+1로 실패한다")
+    void detectNPlusOne() {
+        properties.setRepeatThreshold(3);
+
+        guard.record("select m1_0.member_id from tbl_member m1_0");
+        guard.record("select t1_0.team_id,t1_0.name from tbl_team t1_0 where t1_0.team_id=1");
+        guard.record("select t1_0.team_id,t1_0.name from tbl_team t1_0 where t1_0.team_id=2");
+
+        assertThrows(P6SpyQueryGuard.QueryBudgetExceededException.class,
+                () -> guard.record("select t1_0.team_id,t1_0.name from tbl_team t1_0 where t1_0.team_id=3"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션당 SQL 개수 예산을 넘으면 실패한다")
+    void statementBudget() {
+        properties.setMaxStatementsPerTransaction(2);
+        properties.setRepeatThreshold(0);
+
+        guard.record("select 1");
+        guard.record("select 2");
+
+        assertThrows(P6SpyQueryGuard.QueryBudgetExceededException.class, () -> guard.record("select 3"));
+    }
+
+    @Test
+    @DisplayName("REQUIRES_NEW로 시작한 안쪽 트랜잭션의 SQL은 바깥 트랜잭션 예산에 포함되지 않는다")
+    void innerTransactionHasOwnBudget() {
+        properties.setMaxStatementsPerTransaction(2);
+        properties.setRepeatThreshold(0);
+        guard.record("select 1");
+        guard.record("select 2");
+
+        // 바깥 트랜잭션 보류 (AbstractPlatformTransactionManager.suspend와 같은 순서)
+        List<TransactionSynchronization> outer = TransactionSynchronizationManager.getSynchronizations();
+        outer.forEach(TransactionSynchronization::suspend);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 안쪽 트랜잭션: 새 예산
+        TransactionSynchronizationManager.initSynchronization();
+        guard.record("select 3");
+        guard.record("select 4");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 바깥 트랜잭션 재개: 이미 2개를 썼으므로 다음 SQL에서 실패
+        TransactionSynchronizationManager.initSynchronization();
+        outer.forEach(s -> {
+            s.resume();
+            TransactionSynchronizationManager.registerSynchronization(s);
+        });
+        assertThrows(P6SpyQueryGuard.QueryBudgetExceededException.class, () -> guard.record("select 5"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.study;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.Loggable;
+import com.p6spy.engine.logging.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class P6SpySqlLoggerTest {
+
+    private static final int STATEMENTS = 100_000;
+    private static final String SQL = "select m1_0.member_id,m1_0.age,m1_0.team_id,m1_0.user_name "
+            + "from tbl_member m1_0 where m1_0.user_name='member1' and m1_0.age=20";
+
+    @AfterEach
+    void reset() {
+        P6SpySqlLogger.configure(new P6SpyLogProperties());
+    }
+
+    @Test
+    @DisplayName("SQL 1건당 로깅 비용 비교 (off / sync / async)")
+    void perStatementOverhead() throws InterruptedException {
+        // off: appender를 호출하지 않는 경우의 기준값
+        long offNanos = run(null);
+
+        // sync
+        AtomicLong syncWritten = new AtomicLong();
+        long syncNanos = run(logger(false, syncWritten));
+
+        // async: JDBC 스레드가 부담하는 시간만 측정하고, 출력 완료는 따로 기다립니다.
+        AtomicLong asyncWritten = new AtomicLong();
+        long asyncNanos = run(logger(true, asyncWritten));
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (asyncWritten.get() < STATEMENTS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(STATEMENTS, syncWritten.get());
+        assertEquals(STATEMENTS, asyncWritten.get());
+        System.out.printf("per statement | off %d ns | sync %d ns | async %d ns%n",
+                offNanos / STATEMENTS, syncNanos / STATEMENTS, asyncNanos / STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서는 버퍼가 가득 차면 기다리지 않고 버린다")
+    void dropWhenFull() {
+        P6SpyLogProperties properties = new P6SpyLogProperties();
+        properties.setAsync(true);
+        properties.setBufferSize(16);
+        P6SpySqlLogger.configure(properties);
+        AtomicLong written = new AtomicLong();
+        P6SpySqlLogger logger = new P6SpySqlLogger(text -> {
+            written.incrementAndGet();
+            try {
+                Thread.sleep(1); // 느린 출력
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        logger.setStrategy(new P6SpySqlFormatter());
+
+        for (int i = 0; i < 1_000; i++) {
+            logger.logSQL(1, "now", 1, Category.STATEMENT, SQL, SQL, "jdbc:test");
+        }
+
+        assertTrue(logger.getDroppedCount() > 0);
+    }
+
+    @Test
+    @DisplayName("느린 SQL과 에러는 항상, 나머지는 N건마다 1건만 남기고 남기지 않을 SQL은 렌더링하지 않는다")
+    void slowQueryAndSampling() {
+        P6SpyLogProperties properties = new P6SpyLogProperties();
+        properties.setThresholdMs(100);
+        properties.setSampleRate(10);
+        P6SpySqlLogger.configure(properties);
+        AtomicLong written = new AtomicLong();
+        P6SpySqlLogger logger = new P6SpySqlLogger(text -> written.incrementAndGet());
+        logger.setStrategy(new P6SpySqlFormatter());
+        P6SpySqlLogListener listener = new P6SpySqlLogListener(properties, logger);
+        CountingLoggable statement = new CountingLoggable();
+
+        for (int i = 0; i < 100; i++) {
+            listener.log(statement, TimeUnit.MILLISECONDS.toNanos(1), Category.STATEMENT); // 빠른 SQL
+        }
+        assertEquals(10, written.get());
+        assertEquals(10, statement.rendered.get()); // 버린 90건은 바인딩 값 치환을 하지 않음
+
+        listener.log(statement, TimeUnit.MILLISECONDS.toNanos(150), Category.STATEMENT); // 느린 SQL
+        listener.log(statement, TimeUnit.MILLISECONDS.toNanos(1), Category.ERROR);      // 에러
+        assertEquals(12, written.get());
+
+        // 실행 중 변경: 샘플링을 끄면 빠른 SQL은 더 이상 남지 않습니다.
+        properties.setSampleRate(0);
+        for (int i = 0; i < 100; i++) {
+            listener.log(statement, TimeUnit.MILLISECONDS.toNanos(1), Category.STATEMENT);
+        }
+        assertEquals(12, written.get());
+        assertEquals(12, statement.rendered.get());
+
+        // 로그를 끄면 느린 SQL도 남기지 않습니다.
+        properties.setEnabled(false);
+        listener.log(statement, TimeUnit.MILLISECONDS.toNanos(150), Category.STATEMENT);
+        assertEquals(12, written.get());
+    }
+
+    private P6SpySqlLogger logger(boolean async, AtomicLong written) {
+        P6SpyLogProperties properties = new P6SpyLogProperties();
+        properties.setAsync(async);
+        properties.setOverflowPolicy(P6SpyLogProperties.OverflowPolicy.BLOCK);
+        P6SpySqlLogger.configure(properties);
+        P6SpySqlLogger logger = new P6SpySqlLogger(text -> written.incrementAndGet());
+        logger.setStrategy(new P6SpySqlFormatter());
+        return logger;
+    }
+
+    private long run(P6SpySqlLogger logger) {
+        long start = System.nanoTime();
+        for (int i = 0; i < STATEMENTS; i++) {
+            if (logger != null) {
+                logger.logSQL(i, "now", 1, Category.STATEMENT, SQL, SQL, "jdbc:test");
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    // getSqlWithValues() 호출(바인딩 값 치환) 횟수를 세는 가짜 statement
+    private static class CountingLoggable implements Loggable {
+
+        private final ConnectionInformation connection = mock(ConnectionInformation.class);
+        private final AtomicLong rendered = new AtomicLong();
+
+        @Override
+        public ConnectionInformation getConnectionInformation() {
+            return connection;
+        }
+
+        @Override
+        public String getSql() {
+            return SQL;
+        }
+
+        @Override
+        public String getSqlWithValues() {
+            rendered.incrementAndGet();
+            return SQL;
+        }
+    }
+}
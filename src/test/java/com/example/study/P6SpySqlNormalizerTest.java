@@ -0,0 +1,38 @@
+package com.example.study;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class P6SpySqlNormalizerTest {
+
+    @Test
+    @DisplayName("값만 다른 SQL은 같은 모양으로 정규화된다")
+    void sameShapeForDifferentLiterals() {
+        String a = P6SpySqlNormalizer.normalize(
+                "select m1_0.member_id from tbl_member m1_0 where m1_0.user_name='member1' and m1_0.age in (10, 20)");
+        String b = P6SpySqlNormalizer.normalize(
+                "select m1_0.member_id\n  from tbl_member m1_0 where m1_0.user_name='it''s' and m1_0.age in (?,?,?)");
+
+        assertEquals(a, b);
+        assertEquals("select m1_0.member_id from tbl_member m1_0 where m1_0.user_name=? and m1_0.age in (?)", a);
+    }
+
+    @Test
+    @DisplayName("원본 SQL이 많아져도 이미 등록된 모양은 OTHER로 바뀌지 않는다")
+    void knownShapeSurvivesManyRawVariants() {
+        // given
+        String known = P6SpySqlNormalizer.shapeOf("select * from tbl_team where team_id=1");
+
+        // when - 같은 모양이지만 원본 문자열이 다른 SQL을 캐시 크기보다 많이 실행
+        for (int i = 0; i < P6SpySqlNormalizer.MAX_RAW_SQL + 1_000; i++) {
+            P6SpySqlNormalizer.shapeOf("select * from tbl_member where user_name='member" + i + "'");
+        }
+
+        // then
+        assertEquals(known, P6SpySqlNormalizer.shapeOf("select * from tbl_team where team_id=2"));
+        assertEquals("select * from tbl_member where user_name=?",
+                P6SpySqlNormalizer.shapeOf("select * from tbl_member where user_name='new'"));
+    }
+}
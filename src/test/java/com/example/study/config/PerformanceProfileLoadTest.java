@@ -0,0 +1,177 @@
+package com.example.study.config;
+
+import com.example.study.entity.Member;
+import com.example.study.service.MemberBulkInsertService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 운영 프로파일(application-prod.yml)로 컨텍스트를 띄워서, 설정이 실제로 적용되었는지와 그 효과를 확인하는 부하 테스트입니다.
+// 드라이버 설정(cachePrepStmts, rewriteBatchedStatements)은 MySQL에서만 의미가 있으므로 로컬 MySQL이 필요합니다. (./gradlew loadTest)
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("prod")
+class PerformanceProfileLoadTest {
+
+    private static final int ROWS = 5_000;
+    private static final String PREFIX = "load-test-";
+
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    EntityManagerFactory emf;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MemberBulkInsertService bulkInsertService;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tbl_member WHERE user_name LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("운영 프로파일의 풀/드라이버/하이버네이트 설정이 실제로 적용된다")
+    void effectiveConfiguration() throws SQLException {
+        // when
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        Properties driver = hikari.getDataSourceProperties();
+
+        // then
+        assertEquals(20, hikari.getMaximumPoolSize());
+        assertEquals(20, hikari.getMinimumIdle());
+        assertEquals(3000, hikari.getConnectionTimeout());
+        assertEquals("true", String.valueOf(driver.get("cachePrepStmts")));
+        assertEquals("500", String.valueOf(driver.get("prepStmtCacheSize")));
+        assertEquals("true", String.valueOf(driver.get("rewriteBatchedStatements")));
+        assertEquals("100", String.valueOf(emf.getProperties().get("hibernate.jdbc.batch_size")));
+        assertEquals("true", String.valueOf(emf.getProperties().get("hibernate.order_inserts")));
+    }
+
+    @Test
+    @DisplayName("행 단위 INSERT보다 배치 INSERT(rewriteBatchedStatements)가 빠르다")
+    void insertThroughput() {
+        // given
+        List<Member> single = members("single");
+        List<Member> batch = members("batch");
+
+        // when
+        long start = System.nanoTime();
+        for (Member m : single) {
+            // auto commit: 행마다 왕복 + 커밋
+            jdbcTemplate.update("INSERT INTO tbl_member (user_name, age) VALUES (?, ?)", m.getUserName(), m.getAge());
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long inserted = bulkInsertService.insertMembers(batch);
+        long batchNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("insert %,d rows | single %,.0f rows/s | batch %,.0f rows/s%n",
+                ROWS, perSecond(ROWS, singleNanos), perSecond(ROWS, batchNanos));
+        assertEquals(ROWS, inserted);
+        assertTrue(batchNanos * 2 < singleNanos, "batch는 행 단위보다 2배 이상 빨라야 합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 크기의 풀에서 prepared statement 캐시를 켜면 조회 처리량이 늘어난다")
+    void preparedStatementCacheThroughput() throws Exception {
+        // given - 운영 프로파일 풀과 같은 설정/크기에서 statement 캐시만 다른 두 풀
+        // (useServerPrepStmts=true에 캐시가 없으면 요청마다 서버 prepare + close 왕복이 추가됩니다.)
+        HikariDataSource prod = dataSource.unwrap(HikariDataSource.class);
+        HikariConfig cached = poolConfig(prod, "ps-cache-on", true);
+        HikariConfig uncached = poolConfig(prod, "ps-cache-off", false);
+
+        // when
+        long off;
+        try (HikariDataSource pool = new HikariDataSource(uncached)) {
+            off = readThroughput(pool, prod.getMaximumPoolSize());
+        }
+        long on;
+        try (HikariDataSource pool = new HikariDataSource(cached)) {
+            on = readThroughput(pool, prod.getMaximumPoolSize());
+        }
+
+        // then
+        System.out.printf("pool %d, 2s | cachePrepStmts off: %,d queries | on: %,d queries%n",
+                prod.getMaximumPoolSize(), off, on);
+        assertTrue(on > off, "cache off: " + off + ", cache on: " + on);
+    }
+
+    private HikariConfig poolConfig(HikariDataSource prod, String name, boolean cachePrepStmts) {
+        HikariConfig config = new HikariConfig();
+        prod.copyStateTo(config);
+        config.setPoolName(name);
+        Properties driver = new Properties();
+        driver.putAll(prod.getDataSourceProperties());
+        driver.setProperty("useServerPrepStmts", "true");
+        driver.setProperty("cachePrepStmts", String.valueOf(cachePrepStmts));
+        config.setDataSourceProperties(driver);
+        return config;
+    }
+
+    // 풀 크기만큼의 클라이언트가 2초 동안 커넥션을 빌려 조회하고 반납하기를 반복합니다. (커넥션 대기 없음)
+    private long readThroughput(DataSource pool, int clients) throws Exception {
+        AtomicLong queries = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    try (Connection con = pool.getConnection();
+                         PreparedStatement ps = con.prepareStatement(
+                                 "SELECT member_id, user_name, age FROM tbl_member WHERE member_id = ?")) {
+                        ps.setLong(1, queries.get() % 1000);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                rs.getLong(1);
+                            }
+                        }
+                        queries.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        return queries.get();
+    }
+
+    private List<Member> members(String kind) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> Member.builder()
+                        .userName(PREFIX + kind + i)
+                        .age(i % 100)
+                        .build())
+                .toList();
+    }
+
+    private double perSecond(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
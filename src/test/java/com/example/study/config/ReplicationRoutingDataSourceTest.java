@@ -0,0 +1,121 @@
+package com.example.study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 두 개의 H2 인스턴스를 primary / replica 삼아 라우팅을 확인합니다.
+class ReplicationRoutingDataSourceTest {
+
+    HikariDataSource primary;
+    HikariDataSource replica;
+    AtomicLong replicaLag = new AtomicLong();
+    ReplicationRoutingDataSource routing;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readWrite;
+    TransactionTemplate readOnly;
+
+    @BeforeEach
+    void settingObject() {
+        primary = h2("primary");
+        replica = h2("replica");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica", replica);
+        routing = new ReplicationRoutingDataSource(primary, replicas, ds -> replicaLag.get(), 5);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void close() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 나머지는 primary로 간다")
+    void routeByReadOnly() {
+        // 첫 복제 지연 확인 전에는 replica에 접속하지 않고 primary에서 읽습니다.
+        assertEquals("primary", readOnly.execute(s -> node()));
+        routing.refreshLag();
+
+        assertEquals("primary", readWrite.execute(s -> node()));
+        assertEquals("replica", readOnly.execute(s -> node()));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 크면 읽기도 primary로 간다")
+    void skipLaggingReplica() {
+        replicaLag.set(60);
+        routing.refreshLag();
+        assertEquals("primary", readOnly.execute(s -> node()));
+
+        replicaLag.set(0);
+        routing.refreshLag();
+        assertEquals("replica", readOnly.execute(s -> node()));
+    }
+
+    @Test
+    @DisplayName("복제 상태가 비어 있는 서버(replica가 아닌 서버)는 읽기 대상에서 빠진다")
+    void skipServerWithoutReplicaStatus() throws SQLException {
+        // given - SHOW REPLICA STATUS 결과가 0행인 서버
+        ResultSet empty = mock(ResultSet.class);
+        when(empty.next()).thenReturn(false);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(empty);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource standalone = mock(DataSource.class);
+        when(standalone.getConnection()).thenReturn(connection);
+
+        ReplicationRoutingDataSource mysqlRouting = new ReplicationRoutingDataSource(
+                primary, Map.of("standalone", standalone), ReplicaLagProbe.mysql(), 5);
+
+        // when
+        mysqlRouting.refreshLag();
+
+        // then
+        assertEquals(Long.MAX_VALUE, ReplicaLagProbe.mysql().lagSeconds(standalone));
+        assertTrue(mysqlRouting.getHealthyReplicas().isEmpty());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.study.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyStatsTest {
+
+    @Test
+    @DisplayName("응답 시간 백분위수와 처리량을 계산한다")
+    void percentiles() {
+        // given - 1 ~ 1000ns, 1초 동안
+        long[] latencies = LongStream.rangeClosed(1, 1000).map(i -> 1001 - i).toArray();
+
+        // when
+        LatencyStats stats = LatencyStats.of(latencies, 3, 1_000_000_000L);
+
+        // then
+        assertEquals(1000, stats.count());
+        assertEquals(3, stats.errors());
+        assertEquals(1000.0, stats.throughput(), 0.001);
+        assertEquals(500, stats.p50());
+        assertEquals(900, stats.p90());
+        assertEquals(990, stats.p99());
+        assertEquals(999, stats.p999());
+        assertEquals(1000, stats.max());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.study.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InClauseChunksTest {
+
+    @Test
+    @DisplayName("IN 절 키 목록은 최대 크기로 나뉘고 2의 거듭제곱 개수로 채워진다")
+    void chunkAndPad() {
+        // given - 중복과 null 포함 300개
+        List<Integer> keys = new ArrayList<>(IntStream.range(0, 300).boxed().toList());
+        keys.add(5);
+        keys.add(null);
+
+        // when
+        List<List<Integer>> chunks = InClauseChunks.of(keys);
+
+        // then
+        assertEquals(2, chunks.size());
+        assertEquals(256, chunks.get(0).size());
+        assertEquals(64, chunks.get(1).size()); // 44개 -> 64
+        assertEquals(299, chunks.get(1).get(63)); // 마지막 키로 채움
+    }
+
+    @Test
+    @DisplayName("키 개수가 달라도 IN 절 모양은 log2(최대 크기) + 1 가지뿐이다")
+    void boundedShapes() {
+        Set<Integer> shapes = new HashSet<>();
+        for (int n = 1; n <= 1000; n++) {
+            InClauseChunks.of(IntStream.range(0, n).boxed().toList()).forEach(c -> shapes.add(c.size()));
+        }
+        assertEquals(Set.of(1, 2, 4, 8, 16, 32, 64, 128, 256), shapes);
+    }
+}
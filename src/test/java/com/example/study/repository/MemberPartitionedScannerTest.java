@@ -0,0 +1,109 @@
+package com.example.study.repository;
+
+import com.example.study.entity.Member;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.study.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MemberPartitionedScannerTest {
+
+    @Autowired
+    MemberPartitionedScanner scanner;
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Test
+    @DisplayName("구간 수와 관계없이 한 번에 조회한 결과와 같다")
+    void sameResultForAnyPartitionCount() {
+        // given
+        long count = factory.select(member.count()).from(member).fetchOne();
+        Integer ageSum = factory.select(member.age.sum()).from(member).fetchOne();
+
+        for (int partitions : new int[]{1, 2, 4, 8, 100}) {
+            // when
+            long scannedCount = scanner.scan(partitions, null, () -> 0L, (n, m) -> n + 1, Long::sum);
+            long scannedAgeSum = scanner.scan(partitions, null, () -> 0L, (sum, m) -> sum + m.getAge(), Long::sum);
+            Set<Long> ids = scanner.scan(partitions, null, HashSet::new,
+                    (set, m) -> { set.add(m.getId()); return set; },
+                    (a, b) -> { a.addAll(b); return a; });
+
+            // then
+            assertEquals(count, scannedCount, partitions + " partitions");
+            assertEquals(ageSum == null ? 0 : ageSum.longValue(), scannedAgeSum);
+            assertEquals(count, ids.size()); // 누락/중복 없음
+        }
+    }
+
+    @Test
+    @DisplayName("조건이 있으면 조건에 맞는 회원만 읽는다")
+    void withCondition() {
+        // given
+        long expected = factory.select(member.count()).from(member).where(member.age.goe(30)).fetchOne();
+
+        // when
+        long scanned = scanner.scan(4, member.age.goe(30), () -> 0L,
+                (n, m) -> { assertTrue(m.getAge() >= 30); return n + 1; }, Long::sum);
+        long none = scanner.scan(4, member.age.lt(0), () -> 0L, (n, m) -> n + 1, Long::sum);
+
+        // then
+        assertEquals(expected, scanned);
+        assertEquals(0, none);
+    }
+
+    @Test
+    @DisplayName("결과는 끝난 순서와 관계없이 구간 순서대로 합쳐진다")
+    void combinesInPartitionOrder() {
+        // given
+        List<Long> expected = factory.select(member.id).from(member).orderBy(member.id.asc()).fetch();
+
+        // when - 교환법칙이 성립하지 않는 combiner (리스트 이어 붙이기)
+        List<Long> ids = scanner.scan(4, null, ArrayList::new,
+                (list, m) -> { list.add(m.getId()); return list; },
+                (a, b) -> { a.addAll(b); return a; });
+
+        // then
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName("뒤 구간이 실패하면 앞 구간이 끝나기를 기다리지 않고 바로 실패한다")
+    void failsFastOnAnyPartition() {
+        // given - 첫 구간은 오래 걸리고, 마지막 구간은 바로 실패합니다.
+        Long minId = factory.select(member.id.min()).from(member).fetchOne();
+        Long maxId = factory.select(member.id.max()).from(member).fetchOne();
+
+        // when
+        long start = System.nanoTime();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                scanner.scan(2, null, () -> 0L, (n, m) -> {
+                    if (m.getId().equals(minId)) {
+                        try {
+                            Thread.sleep(30_000); // 취소(interrupt)되면 바로 깨어납니다.
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("cancelled", ie);
+                        }
+                    }
+                    if (m.getId().equals(maxId)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return n + 1;
+                }, Long::sum));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals("boom", e.getMessage());
+        assertTrue(elapsedMillis < 10_000, elapsedMillis + "ms");
+    }
+}
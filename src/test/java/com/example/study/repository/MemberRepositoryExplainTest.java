@@ -0,0 +1,159 @@
+package com.example.study.repository;
+
+import com.example.study.dto.AgeComparison;
+import com.example.study.dto.MemberCursor;
+import com.example.study.dto.MemberSearchCondition;
+import com.example.study.service.MemberDataGenerator;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// MemberRepositoryImpl 조회 쿼리가 인덱스를 타는지 실행 계획(EXPLAIN)으로 확인합니다.
+// 내장 H2(MySQL 모드)에 Flyway 마이그레이션으로 스키마와 인덱스를 만들고,
+// 실제로 실행된 SQL(p6spy로 수집, 파라미터 값 포함)을 그대로 EXPLAIN 합니다.
+// 조건이 있는 조회는 모두 확인하고, 전체 테이블을 읽는 것이 정상인 조회만 아래 이유로 대상에서 뺍니다.
+// - findUser/findUserWithTeam/findUserSummary/search(Page)에 조건을 하나도 주지 않은 경우 : 전체 회원이 결과
+// - averageAge, findByAgeComparedToAverage의 평균 쿼리             : 전체 회원의 AVG(age)
+// - findByAgeComparedToTeamAverage                                 : 팀별 평균을 구하는 윈도 함수가 전체를 한 번 읽음
+// - countByTeamAndAge                                              : 팀 통계 재계산용 전체 GROUP BY
+// - bulkIncrementAge, bulkMoveTeam, deleteByAgeOver               : SELECT가 아닌 UPDATE/DELETE
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Import(MemberRepositoryExplainTest.SqlCapture.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberRepositoryExplainTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberDataGenerator dataGenerator;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    SqlCapture sqlCapture;
+
+    @BeforeAll
+    void seed() {
+        dataGenerator.generate(42, 20, 20_000, 2);
+        jdbcTemplate.execute("ANALYZE"); // 인덱스 선택도 통계 갱신
+    }
+
+    @Test
+    @DisplayName("조건이 있는 회원 조회는 전체 테이블을 스캔하지 않는다")
+    void noFullScan() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByName", () -> memberRepository.findByName("member100"));
+        queries.put("findUser(name)", () -> memberRepository.findUser("member100", null));
+        queries.put("findUser(age)", () -> memberRepository.findUser(null, 70));
+        queries.put("findUser(name, age)", () -> memberRepository.findUser("member100", 30));
+        queries.put("findByNameWithTeam", () -> memberRepository.findByNameWithTeam("member100"));
+        queries.put("findSummaryByName", () -> memberRepository.findSummaryByName("member100"));
+        queries.put("findSliceOrderByAge", () -> memberRepository.findSliceOrderByAge(MemberCursor.encode(30, 100L), 20));
+        queries.put("findSliceOrderByUserName",
+                () -> memberRepository.findSliceOrderByUserName(MemberCursor.encode("member100", 100L), 20));
+        queries.put("searchPage(team, age)", () -> memberRepository.searchPage(MemberSearchCondition.builder()
+                .teamName("team3").ageGoe(60).ageLoe(65).build(), PageRequest.of(0, 20, Sort.by("age"))));
+        queries.put("findByAgeComparedTo", () -> memberRepository.findByAgeComparedTo(AgeComparison.ABOVE, 80));
+        queries.put("findSummaryByAgeComparedTo",
+                () -> memberRepository.findSummaryByAgeComparedTo(AgeComparison.ABOVE, 80));
+        queries.put("findAllByNames",
+                () -> memberRepository.findAllByNames(List.of("member100", "member200", "member300")));
+        queries.put("findByNameReadOnly", () -> memberRepository.findByNameReadOnly("member100"));
+        queries.put("findUserReadOnly(name, age)", () -> memberRepository.findUserReadOnly("member100", 30));
+        queries.put("findUserWithTeam(name)", () -> memberRepository.findUserWithTeam("member100", null));
+        queries.put("findUserWithTeam(age)", () -> memberRepository.findUserWithTeam(null, 70));
+        queries.put("findUserSummary(name)", () -> memberRepository.findUserSummary("member100", null));
+        queries.put("findUserSummary(age)", () -> memberRepository.findUserSummary(null, 70));
+        queries.put("search(namePrefix)", () -> memberRepository.search(MemberSearchCondition.builder()
+                .namePrefix("member100").build(), PageRequest.of(0, 20, Sort.by("age"))));
+        queries.put("search(team, age)", () -> memberRepository.search(MemberSearchCondition.builder()
+                .teamName("team3").ageGoe(60).ageLoe(65).build(), PageRequest.of(0, 20, Sort.by("age"))));
+        queries.put("forEachUser(name)", () -> memberRepository.forEachUser("member100", null, m -> {
+        }));
+
+        List<String> failures = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            // when
+            sqlCapture.start();
+            query.run();
+            List<String> statements = sqlCapture.stop();
+
+            // then
+            assertFalse(statements.isEmpty(), name + ": 실행된 SELECT가 없습니다.");
+            for (String sql : statements) {
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+                System.out.println(name + "\n  " + sql + "\n  " + plan);
+                if (isFullScan(plan)) {
+                    failures.add(name + ": " + sql + " -> " + plan);
+                }
+            }
+        });
+        assertTrue(failures.isEmpty(), "전체 테이블 스캔:\n" + String.join("\n", failures));
+    }
+
+    // H2: 계획에 tableScan이 나옴 / MySQL: type 컬럼이 ALL
+    static boolean isFullScan(List<Map<String, Object>> plan) {
+        for (Map<String, Object> row : plan) {
+            for (Map.Entry<String, Object> column : row.entrySet()) {
+                String value = String.valueOf(column.getValue());
+                if (value.toLowerCase().contains("tablescan")
+                        || ("type".equalsIgnoreCase(column.getKey()) && "ALL".equals(value))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 측정 구간 동안 실행된 SELECT를 값이 채워진 형태로 모읍니다.
+    @Component
+    static class SqlCapture extends JdbcEventListener {
+
+        private volatile List<String> captured;
+
+        void start() {
+            captured = new CopyOnWriteArrayList<>();
+        }
+
+        List<String> stop() {
+            List<String> result = captured;
+            captured = null;
+            return result;
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            List<String> target = captured;
+            String sql = statementInformation.getSqlWithValues();
+            if (target != null && sql != null && sql.trim().toLowerCase().startsWith("select")) {
+                target.add(sql);
+            }
+        }
+    }
+}
@@ -1,4 +1,10 @@
 package com.example.study.repository;
+import com.example.study.P6SpyQueryCounter;
+import com.example.study.dto.AgeComparison;
+import com.example.study.dto.KeysetSlice;
+import com.example.study.dto.MemberCursor;
+import com.example.study.dto.MemberSearchCondition;
+import com.example.study.dto.MemberSummary;
 import com.example.study.entity.Member;
 import com.example.study.entity.QMember;
 import com.example.study.entity.Team;
@@ -6,14 +12,28 @@ import com.querydsl.core.Tuple;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static com.example.study.entity.QMember.*;
 import static com.example.study.entity.QTeam.team;
@@ -26,9 +46,15 @@ class MemberRepositoryTest {
     @Autowired
     MemberRepository memberRepository;
     @Autowired
+    MemberRepositoryImpl memberRepositoryImpl; // 패키지 내부 메서드(쿼리 조립) 확인용
+    @Autowired
     TeamRepository teamRepository;
     @Autowired
     EntityManager em; // JPA 관리 핵심 객체
+    @Autowired
+    P6SpyQueryCounter queryCounter; // 실행된 SQL 개수 확인용
+    @Value("${spring.jpa.properties.hibernate.default_batch_fetch_size}")
+    int batchFetchSize;
     // QueryDSL로 쿼리문을 작성하기 위한 핵심 객체
     JPAQueryFactory factory;
     @BeforeEach
@@ -377,4 +403,433 @@ class MemberRepositoryTest {
 
 
 
+    @Test
+    @DisplayName("키셋 페이징으로 전체 회원을 누락/중복 없이 순회")
+    void keysetPaging() {
+        // given
+        long total = memberRepository.count();
+        Set<Long> seen = new HashSet<>();
+
+        // when
+        String cursor = null;
+        do {
+            KeysetSlice<Member> slice = memberRepository.findSliceOrderByUserName(cursor, 3);
+            slice.getContent().forEach(m -> assertTrue(seen.add(m.getId())));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertEquals(total, seen.size());
+    }
+
+    @Test
+    @Rollback
+    @DisplayName("OFFSET 페이징과 키셋 페이징은 같은 행을 같은 순서로 반환한다 (이름이 null인 회원 포함)")
+    void offsetAndKeysetPagingReturnSameRows() {
+        // given - 이름이 null인 회원과 "null"이라는 이름의 회원이 섞여 있어도 커서가 구분해야 합니다.
+        // (깊이별 응답 시간 비교는 JMH PagingBenchmark에서 측정합니다.)
+        em.persist(Member.builder().age(25).build());
+        em.persist(Member.builder().age(25).build());
+        em.persist(Member.builder().userName("null").age(25).build());
+        em.flush();
+        em.clear();
+        int size = 2;
+
+        // when
+        List<Long> offsetByName = factory.select(member.id).from(member)
+                .orderBy(member.userName.asc(), member.id.asc())
+                .fetch();
+        List<Long> offsetByAge = factory.select(member.id).from(member)
+                .orderBy(member.age.asc(), member.id.asc())
+                .fetch();
+
+        List<Long> seekByName = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetSlice<Member> slice = memberRepository.findSliceOrderByUserName(cursor, size);
+            slice.getContent().forEach(m -> seekByName.add(m.getId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> seekByAge = new ArrayList<>();
+        do {
+            KeysetSlice<Member> slice = memberRepository.findSliceOrderByAge(cursor, size);
+            slice.getContent().forEach(m -> seekByAge.add(m.getId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertEquals(offsetByName, seekByName);
+        assertEquals(offsetByAge, seekByAge);
+    }
+
+    @Test
+    @Rollback // 예외가 트랜잭션을 rollback-only로 만들기 때문
+    @DisplayName("잘못된 커서는 IllegalArgumentException으로 거절한다")
+    void invalidCursor() {
+        // given
+        String nameCursor = MemberCursor.encode("member1", 1L);
+
+        // when & then - 이름 커서를 나이 정렬에 넘기면 NumberFormatException 대신 IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> memberRepository.findSliceOrderByAge(nameCursor, 3));
+        assertThrows(IllegalArgumentException.class, () -> memberRepository.findSliceOrderByUserName("@@@", 3));
+
+        MemberCursor nullKey = MemberCursor.decode(MemberCursor.encode(null, 7L));
+        assertNull(nullKey.getKey());
+        assertEquals(7L, nullKey.getId());
+        assertEquals("null", MemberCursor.decode(MemberCursor.encode("null", 7L)).getKey());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("트랜잭션 없이 스트리밍 조회를 호출하면 예외가 발생한다")
+    void streamRequiresTransaction() {
+        assertThrows(IllegalTransactionStateException.class, () -> memberRepository.streamByName("member1"));
+        assertThrows(IllegalTransactionStateException.class, () -> memberRepository.streamUser(null, null));
+    }
+
+    @Test
+    @DisplayName("엔티티 조회와 DTO 프로젝션 조회 비교")
+    void entityVsProjection() {
+        // given
+        em.clear();
+        Session session = em.unwrap(Session.class);
+
+        // when
+        long start = System.nanoTime();
+        List<Member> entities = memberRepository.findUser(null, null);
+        entities.stream().map(Member::getTeam).filter(Objects::nonNull).forEach(Team::getName);
+        long entityNanos = System.nanoTime() - start;
+        int managedAfterEntityFetch = session.getStatistics().getEntityCount();
+
+        em.clear();
+        start = System.nanoTime();
+        List<MemberSummary> summaries = memberRepository.findUserSummary(null, null);
+        long projectionNanos = System.nanoTime() - start;
+        int managedAfterProjection = session.getStatistics().getEntityCount();
+
+        // then
+        assertEquals(entities.size(), summaries.size());
+        assertEquals(0, managedAfterProjection);
+        System.out.printf("entity fetch %d us (managed %d) | projection fetch %d us (managed %d)%n",
+                entityNanos / 1_000, managedAfterEntityFetch, projectionNanos / 1_000, managedAfterProjection);
+    }
+
+    @Test
+    @DisplayName("fetch join 조회는 팀 이름까지 쿼리 1번으로 끝난다")
+    void fetchJoinQueryCount() {
+        // given
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+
+        // when
+        List<Member> result = memberRepository.findUserWithTeam(null, null);
+        result.stream().map(Member::getTeam).filter(Objects::nonNull).forEach(Team::getName);
+
+        // then
+        assertTrue(queryCounter.getCount() <= 1, "executed " + queryCounter.getCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("지연 로딩도 batch fetch 덕분에 1 + ceil(N / batch)번 이하로 끝난다")
+    void batchFetchQueryCount() {
+        // given
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+
+        // when
+        List<Member> result = memberRepository.findUser(null, null);
+        result.stream().map(Member::getTeam).filter(Objects::nonNull).forEach(Team::getName);
+
+        // then
+        long limit = 1 + (result.size() + batchFetchSize - 1) / batchFetchSize;
+        assertTrue(queryCounter.getCount() <= limit,
+                "executed " + queryCounter.getCount() + " statements, limit " + limit);
+    }
+
+    @Test
+    @Rollback
+    @DisplayName("벌크 수정 후 다시 조회하면 DB에 반영된 값이 조회된다")
+    void bulkIncrementAge() {
+        // given
+        Member before = memberRepository.findByName("member1").get(0);
+        int ageBefore = before.getAge();
+
+        // when
+        long affected = memberRepository.bulkIncrementAge(member.userName.eq("member1"));
+
+        // then
+        // 벌크 연산 후 영속성 컨텍스트가 비워졌으므로 이전 엔티티가 아니라 DB의 새 값이 조회됩니다.
+        Member after = memberRepository.findByName("member1").get(0);
+        assertEquals(1, affected);
+        assertFalse(em.contains(before));
+        assertEquals(ageBefore + 1, after.getAge());
+    }
+
+    @Test
+    @Rollback
+    @DisplayName("벌크 팀 이동과 삭제")
+    void bulkMoveTeamAndDelete() {
+        // given
+        long teamAMembers = factory.selectFrom(member).where(member.team.id.eq(1L)).fetch().size();
+
+        // when
+        long moved = memberRepository.bulkMoveTeam(1L, 2L);
+        long deleted = memberRepository.deleteByAgeOver(70);
+
+        // then
+        assertEquals(teamAMembers, moved);
+        assertTrue(factory.selectFrom(member).where(member.team.id.eq(1L)).fetch().isEmpty());
+        assertTrue(factory.selectFrom(member).where(member.age.gt(70)).fetch().isEmpty());
+        System.out.println("moved = " + moved + ", deleted = " + deleted);
+    }
+
+    @Test
+    @Rollback
+    @DisplayName("팀이 없는 회원을 팀으로 옮기고, 다시 팀이 없는 상태로 되돌린다")
+    void bulkMoveTeamFromNoTeam() {
+        // given
+        em.persist(Member.builder().userName("noTeamMember").age(33).build());
+        long noTeamMembers = factory.selectFrom(member).where(member.team.isNull()).fetch().size();
+
+        // when
+        long moved = memberRepository.bulkMoveTeam(null, 2L);
+
+        // then
+        assertEquals(noTeamMembers, moved);
+        assertTrue(factory.selectFrom(member).where(member.team.isNull()).fetch().isEmpty());
+
+        // when - 2번 팀 전체를 팀 없음으로
+        long teamBMembers = factory.selectFrom(member).where(member.team.id.eq(2L)).fetch().size();
+        assertEquals(teamBMembers, memberRepository.bulkMoveTeam(2L, null));
+    }
+
+    @Test
+    @DisplayName("검색 조건이 null이면 조건 없는 검색과 같다")
+    void searchWithNullCondition() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 5, Sort.by("id"));
+
+        // when
+        List<Member> result = memberRepository.search(null, pageable);
+        Page<Member> page = memberRepository.searchPage(null, pageable);
+
+        // then
+        assertEquals(memberRepository.search(new MemberSearchCondition(), pageable), result);
+        assertEquals(memberRepository.count(), page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("검색 조건 객체로 동적 검색")
+    void searchByCondition() {
+        // given
+        MemberSearchCondition condition = MemberSearchCondition.builder()
+                .namePrefix("member")
+                .ageGoe(20)
+                .ageLoe(50)
+                .teamName("teamA")
+                .build();
+
+        // when
+        List<Member> result = memberRepository.search(condition,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "age")));
+
+        // then
+        assertTrue(result.size() <= 5);
+        result.forEach(m -> {
+            assertTrue(m.getAge() >= 20 && m.getAge() <= 50);
+            assertEquals("teamA", m.getTeam().getName());
+        });
+    }
+
+    @Test
+    @DisplayName("다양한 검색 조건 10,000건의 쿼리 조립 비용과 쿼리 모양 수")
+    void searchQueryBuildCost() {
+        // given
+        MemberRepositoryImpl repository = memberRepositoryImpl;
+        Random random = new Random(42);
+        Set<String> shapes = new HashSet<>();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            MemberSearchCondition condition = MemberSearchCondition.builder()
+                    .namePrefix(random.nextBoolean() ? "member" + random.nextInt(100) : null)
+                    .nameContains(random.nextBoolean() ? String.valueOf(random.nextInt(10)) : null)
+                    .ageGoe(random.nextBoolean() ? random.nextInt(50) : null)
+                    .ageLoe(random.nextBoolean() ? 50 + random.nextInt(50) : null)
+                    .teamName(random.nextBoolean() ? "team" + random.nextInt(5) : null)
+                    .build();
+            Sort sort = random.nextBoolean() ? Sort.by("age") : Sort.by(Sort.Direction.DESC, "userName");
+            // toString()은 JPQL 직렬화까지 수행합니다. (실제 실행은 하지 않음)
+            shapes.add(repository.searchQuery(condition, PageRequest.of(random.nextInt(100), 20, sort)).toString());
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+        // then
+        // 검색 값이 달라도 조건 조합(2^5) x 정렬(2) 이하의 JPQL만 만들어져야 플랜 캐시가 재사용됩니다.
+        assertTrue(shapes.size() <= 64, "distinct JPQL shapes = " + shapes.size());
+        System.out.printf("10,000 searches built in %d us (%.2f us/search), %d distinct shapes%n",
+                elapsedMicros, elapsedMicros / 10_000.0, shapes.size());
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 size보다 작으면 COUNT 쿼리를 생략한다")
+    void searchPageSkipsCount() {
+        // given
+        MemberSearchCondition condition = new MemberSearchCondition();
+        long total = memberRepository.count();
+        queryCounter.reset();
+
+        // when
+        Page<Member> page = memberRepository.searchPage(condition, PageRequest.of(0, (int) total + 10));
+
+        // then
+        assertEquals(total, page.getTotalElements());
+        assertEquals(1, queryCounter.getCount());
+    }
+
+    @Test
+    @DisplayName("중간 페이지는 COUNT 쿼리로 전체 개수를 구한다")
+    void searchPageWithCount() {
+        // given
+        MemberSearchCondition condition = MemberSearchCondition.builder()
+                .teamName("teamA")
+                .build();
+        long total = factory.selectFrom(member).where(member.team.name.eq("teamA")).fetch().size();
+        queryCounter.reset();
+
+        // when
+        Page<Member> page = memberRepository.searchPage(condition, PageRequest.of(0, 2, Sort.by("userName")));
+
+        // then
+        assertEquals(total, page.getTotalElements());
+        assertTrue(queryCounter.getCount() <= 2);
+    }
+
+    @Test
+    @DisplayName("회원 + 팀 이름 조회 유스케이스는 SQL 2개 이하로 끝나야 한다")
+    void findWithTeamStatementBudget() {
+        // given
+        em.flush();
+        em.clear();
+
+        // when
+        long statements = queryCounter.countStatements(() ->
+                memberRepository.findByNameWithTeam("member1")
+                        .forEach(m -> System.out.println(m.getUserName() + " / " + m.getTeam().getName())));
+
+        // then
+        assertTrue(statements <= 2, "executed " + statements + " statements");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 쿼리로 조회한 엔티티는 읽기 전용이다")
+    // 힌트로 줄어드는 할당량/CPU 시간은 ReadOnlyFetchBenchmark(JMH, -prof gc)에서 측정합니다.
+    void readOnlyQueryHints() {
+        // given
+        Session session = em.unwrap(Session.class);
+        em.flush();
+        em.clear();
+
+        // when
+        List<Member> managed = factory.selectFrom(member).fetch(); // 일반 쿼리: 스냅샷 생성
+        boolean managedReadOnly = managed.stream().anyMatch(session::isReadOnly);
+        em.clear();
+        List<Member> readOnly = memberRepository.findUserReadOnly(null, null); // ReadOnlyQueryFactory
+
+        // then
+        assertFalse(managed.isEmpty());
+        assertFalse(managedReadOnly);
+        assertTrue(readOnly.stream().allMatch(session::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("일반 조회 메서드는 쓰기 트랜잭션 안에서 flush 전 변경을 보고, 조회한 엔티티 수정이 반영된다")
+    void defaultFindersKeepWriteSemantics() {
+        // given - 아직 flush 하지 않은 변경
+        Session session = em.unwrap(Session.class);
+        Member member1 = memberRepository.findByName("member1").get(0);
+        int age = member1.getAge();
+        member1.setAge(age + 100);
+
+        // when
+        List<Member> found = memberRepository.findUser("member1", age + 100); // 쿼리 전에 자동 flush
+
+        // then
+        assertEquals(1, found.size());
+        assertFalse(session.isReadOnly(found.get(0)));
+        assertEquals(1, memberRepository.findUserReadOnly("member1", age + 100).size()); // flush 이후라 보임
+
+        member1.setAge(age); // 원래 값으로 되돌리기
+    }
+
+    @Test
+    @DisplayName("평균 나이 비교: 평균을 한 번만 구하는 조회는 서브쿼리 결과와 같다")
+    void averageComparisonWithoutSubquery() {
+        // given
+        QMember memberSub = new QMember("memberSub");
+        List<Long> gtSubquery = factory.select(member.id).from(member)
+                .where(member.age.gt(JPAExpressions.select(memberSub.age.avg()).from(memberSub)))
+                .orderBy(member.id.asc())
+                .fetch();
+        List<Long> goeSubquery = factory.select(member.id).from(member)
+                .where(member.age.goe(JPAExpressions.select(memberSub.age.avg()).from(memberSub)))
+                .orderBy(member.id.asc())
+                .fetch();
+
+        // when
+        List<Long> gt = memberRepository.findByAgeComparedToAverage(AgeComparison.ABOVE).stream()
+                .map(Member::getId).sorted().toList();
+        List<Long> goe = memberRepository.findByAgeComparedToAverage(AgeComparison.AT_OR_ABOVE).stream()
+                .map(Member::getId).sorted().toList();
+
+        // then
+        assertEquals(gtSubquery, gt);
+        assertEquals(goeSubquery, goe);
+    }
+
+    @Test
+    @DisplayName("팀 평균 나이 비교: 윈도 함수 조회는 상관 서브쿼리 결과와 같다")
+    void teamAverageComparisonWithWindowFunction() {
+        // given - 회원마다 자기 팀의 평균을 다시 계산하는 상관 서브쿼리
+        QMember memberSub = new QMember("memberSub");
+        List<Long> correlated = factory.select(member.id).from(member)
+                .where(member.team.isNotNull(),
+                        member.age.lt(JPAExpressions.select(memberSub.age.avg())
+                                .from(memberSub)
+                                .where(memberSub.team.eq(member.team))))
+                .orderBy(member.id.asc())
+                .fetch();
+        em.flush();
+        em.clear();
+
+        // when
+        List<Long> windowed = memberRepository.findByAgeComparedToTeamAverage(AgeComparison.BELOW).stream()
+                .map(Member::getId).toList();
+
+        // then
+        assertEquals(correlated, windowed);
+    }
+
+    @Test
+    @DisplayName("여러 이름 조회는 입력 이름을 키로 하고, IN 절을 나눠 SQL 몇 개로 끝난다")
+    void findAllByNames() {
+        // given - 존재하는 이름 + 없는 이름 300개
+        List<String> names = new ArrayList<>(List.of("member1", "member2"));
+        IntStream.range(0, 298).forEach(i -> names.add("nobody" + i));
+        queryCounter.reset();
+
+        // when
+        Map<String, List<Member>> result = memberRepository.findAllByNames(names);
+
+        // then
+        assertEquals(names.size(), result.size());
+        assertEquals(memberRepository.findByName("member1").size(), result.get("member1").size());
+        assertTrue(result.get("nobody0").isEmpty());
+        assertTrue(queryCounter.getCount() <= 3, "executed " + queryCounter.getCount()); // 256 + 64(패딩) + findByName
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.example.study.repository;
+
+import com.example.study.service.MemberDataGenerator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 대용량 스트리밍 조회가 힙 크기와 무관하게 동작하는지 확인합니다. (./gradlew heapCappedTest, -Xmx128m)
+// 회원 100만 건을 MemberDataGenerator로 넣고 전부 흘려보낸 뒤, 넣은 데이터는 지웁니다.
+// 데이터 생성은 청크마다 커밋되므로 테스트 트랜잭션(@Transactional) 없이 실행합니다.
+@Tag("heap")
+@SpringBootTest
+class MemberStreamingHeapTest {
+
+    private static final long MEMBERS = 1_000_000;
+    private static final int TEAMS = 10;
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    MemberDataGenerator dataGenerator;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    long maxMemberIdBefore;
+    long maxTeamIdBefore;
+
+    @BeforeEach
+    void seed() {
+        maxMemberIdBefore = maxId("SELECT COALESCE(MAX(member_id), 0) FROM tbl_member");
+        maxTeamIdBefore = maxId("SELECT COALESCE(MAX(team_id), 0) FROM tbl_team");
+        dataGenerator.generate(42, TEAMS, MEMBERS, 4);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tbl_member WHERE member_id > ?", maxMemberIdBefore);
+        jdbcTemplate.update("DELETE FROM tbl_team WHERE team_id > ?", maxTeamIdBefore);
+    }
+
+    @Test
+    @DisplayName("회원 100만 건을 스트리밍 조회해도 영속성 컨텍스트가 일정 크기 이상 커지지 않는다")
+    void streamUserKeepsPersistenceContextBounded() {
+        // given
+        long total = memberRepository.count();
+        assertTrue(total >= MEMBERS);
+        AtomicLong rows = new AtomicLong();
+        AtomicInteger maxManaged = new AtomicInteger();
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        // when - 전체 테이블을 흘려보내도 OOM 없이 끝나야 합니다.
+        readOnlyTx.executeWithoutResult(status -> {
+            Session session = em.unwrap(Session.class);
+            memberRepository.forEachUser(null, null, m -> {
+                rows.incrementAndGet();
+                maxManaged.accumulateAndGet(session.getStatistics().getEntityCount(), Math::max);
+            });
+        });
+
+        // then - 회원 1000건 + 팀 프록시 정도만 남아 있어야 합니다.
+        assertEquals(total, rows.get());
+        assertTrue(maxManaged.get() <= 1000 + teamRepository.count());
+        System.out.println("streamed rows = " + rows.get() + ", max managed entities = " + maxManaged.get());
+    }
+
+    private long maxId(String sql) {
+        Long id = jdbcTemplate.queryForObject(sql, Long.class);
+        return id == null ? 0 : id;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.study.repository;
+
+import com.example.study.entity.Team;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class TeamRepositoryTest {
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    EntityManagerFactory emf;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void settingObject() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("팀을 다시 조회하면 2차 캐시에서 가져온다")
+    void findByIdUsesSecondLevelCache() {
+        // given
+        teamRepository.findById(1L).orElseThrow();
+        em.clear(); // 1차 캐시(영속성 컨텍스트)를 비워서 2차 캐시를 타게 만든다.
+
+        // when
+        Team team = teamRepository.findById(1L).orElseThrow();
+
+        // then
+        assertEquals("teamA", team.getName());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        System.out.println("L2 hit = " + statistics.getSecondLevelCacheHitCount()
+                + ", miss = " + statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    @DisplayName("이름 조회는 쿼리 캐시를 사용하고, 이름을 바꾸면 무효화된다")
+    void findByNameUsesQueryCache() {
+        // given
+        assertFalse(teamRepository.findByName("teamA").isEmpty());
+        em.clear();
+
+        // when
+        teamRepository.findByName("teamA");
+
+        // then
+        assertTrue(statistics.getQueryCacheHitCount() >= 1);
+
+        // 이름 변경 (롤백되는 테스트 트랜잭션 안에서)
+        Team team = teamRepository.findByName("teamA").get(0);
+        team.setName("teamA-renamed");
+        em.flush();
+        em.clear();
+
+        assertTrue(teamRepository.findByName("teamA").stream().noneMatch(t -> t.getId().equals(team.getId())));
+        assertEquals(List.of(team.getId()),
+                teamRepository.findByName("teamA-renamed").stream().map(Team::getId).toList());
+    }
+
+    @Test
+    @DisplayName("같은 이름의 팀이 여러 개여도 이름 조회는 모두 돌려준다")
+    void findByNameWithDuplicates() {
+        // given
+        int before = teamRepository.findByName("teamA").size();
+        teamRepository.save(Team.builder().name("teamA").build());
+        em.flush();
+
+        // when
+        List<Team> teams = teamRepository.findByName("teamA");
+
+        // then
+        assertEquals(before + 1, teams.size());
+    }
+
+    @Test
+    @DisplayName("여러 id 조회는 id를 키로 하고, 없는 id는 빠진다")
+    void findTeamsByIds() {
+        // when
+        Map<Long, Team> teams = teamRepository.findTeamsByIds(List.of(1L, 2L, 1L, -1L));
+
+        // then
+        assertEquals(Set.of(1L, 2L), teams.keySet());
+        assertEquals("teamA", teams.get(1L).getName());
+    }
+}
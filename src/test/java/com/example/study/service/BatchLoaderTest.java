@@ -0,0 +1,128 @@
+package com.example.study.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private final List<Collection<Integer>> calls = new CopyOnWriteArrayList<>();
+    private final Function<Collection<Integer>, Map<Integer, String>> batchFunction = keys -> {
+        calls.add(List.copyOf(keys));
+        return keys.stream().filter(k -> k >= 0).collect(Collectors.toMap(k -> k, k -> "v" + k));
+    };
+
+    @Test
+    @DisplayName("동시에 들어온 단건 조회는 한 번의 배치 조회로 합쳐진다")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        BatchLoader<Integer, String> loader = new BatchLoader<>(batchFunction, 100, 50_000_000L);
+        int clients = 20;
+        CountDownLatch ready = new CountDownLatch(clients);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int key = i % 10; // 같은 키도 섞어서
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return loader.get(key);
+            }));
+        }
+
+        // then
+        for (int i = 0; i < clients; i++) {
+            assertEquals("v" + (i % 10), results.get(i).get());
+        }
+        executor.shutdown();
+        assertTrue(calls.size() < clients, "batch calls = " + calls.size());
+        assertEquals(10, calls.stream().mapToInt(Collection::size).sum()); // 키마다 한 번씩만 조회
+    }
+
+    @Test
+    @DisplayName("배치 크기를 채우면 바로 실행되고, 없는 키는 null이다")
+    void dispatchWhenFull() {
+        // given
+        BatchLoader<Integer, String> loader = new BatchLoader<>(batchFunction, 3, 0);
+
+        // when
+        var a = loader.load(1);
+        var b = loader.load(-1);
+        assertFalse(a.isDone());
+        var c = loader.load(2); // 3개째
+
+        // then
+        assertEquals(1, calls.size());
+        assertEquals("v1", a.join());
+        assertNull(b.join());
+        assertEquals("v2", c.join());
+        assertSame(a, loader.load(1)); // 이미 조회한 키는 다시 조회하지 않음
+    }
+
+    @Test
+    @DisplayName("배치 조회가 실패한 키는 다음에 다시 조회한다")
+    void retryAfterFailure() {
+        // given
+        boolean[] fail = {true};
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (fail[0]) {
+                throw new IllegalStateException("db down");
+            }
+            return batchFunction.apply(keys);
+        }, 10, 0);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> loader.get(1));
+        fail[0] = false;
+        assertEquals("v1", loader.get(1));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 없으면 window만큼 기다리지 않고 바로 조회한다")
+    void noWaitWhenAlone() {
+        // given
+        BatchLoader<Integer, String> loader = new BatchLoader<>(batchFunction, 100, 1_000_000_000L); // 1초
+
+        // when
+        long start = System.nanoTime();
+        String value = loader.get(1);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals("v1", value);
+        assertTrue(elapsedMillis < 500, elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("배치 조회에서 Error가 나도 기다리는 쪽이 멈추지 않고, null 키는 거절한다")
+    void errorCompletesFutures() {
+        // given
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            throw new AssertionError("boom");
+        }, 10, 0);
+        var future = loader.load(1);
+
+        // when
+        assertThrows(AssertionError.class, loader::dispatch);
+
+        // then
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(AssertionError.class, () -> loader.get(2));
+        assertThrows(IllegalArgumentException.class, () -> loader.load(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import com.example.study.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MemberBulkInsertServiceTest {
+
+    private static final String PREFIX = "bulk-test-";
+
+    @Autowired
+    MemberBulkInsertService bulkInsertService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // 다른 테스트가 회원 수를 가정하고 있으므로 넣은 데이터는 지워 줍니다.
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tbl_member WHERE user_name LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT와 save() 반복의 등록 시간 비교")
+    void bulkInsertVsSave() {
+        // given
+        int count = 10_000;
+        long before = memberRepository.count();
+
+        // when
+        long start = System.nanoTime();
+        long inserted = bulkInsertService.insertMembers(members("batch", count));
+        long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        memberRepository.saveAll(members("save", count));
+        long saveMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals(count, inserted);
+        assertEquals(before + count * 2L, memberRepository.count());
+        System.out.printf("%,d rows | batch insert %d ms | save() %d ms%n", count, batchMillis, saveMillis);
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션이 롤백되어도 이미 넣은 청크는 커밋된 상태로 남는다")
+    void chunksCommitIndependentlyOfCaller() {
+        // given
+        int count = MemberBulkInsertService.CHUNK_SIZE + 1;
+        long before = memberRepository.count();
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+
+        // when
+        outer.executeWithoutResult(status -> {
+            bulkInsertService.insertMembers(members("outer", count));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(before + count, memberRepository.count());
+    }
+
+    private List<Member> members(String kind, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Member.builder()
+                        .userName(PREFIX + kind + i)
+                        .age(i % 100)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.study.service;
+
+import com.example.study.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberDataGeneratorTest {
+
+    private static final long[] TEAM_IDS = {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L};
+
+    @Test
+    @DisplayName("같은 seed면 생성 순서와 관계없이 같은 행이 만들어진다")
+    void deterministic() {
+        MemberDataGenerator.RowGenerator a = new MemberDataGenerator.RowGenerator(42, TEAM_IDS);
+        MemberDataGenerator.RowGenerator b = new MemberDataGenerator.RowGenerator(42, TEAM_IDS);
+
+        // given - b는 뒤에서부터 먼저 생성해 둡니다.
+        Member[] reversed = new Member[1000];
+        for (int i = 999; i >= 0; i--) {
+            reversed[i] = b.row(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            // when - a는 앞에서부터 생성
+            Member expected = a.row(i);
+            Member actual = reversed[i];
+
+            // then
+            assertEquals(expected.getUserName(), actual.getUserName());
+            assertEquals(expected.getAge(), actual.getAge());
+            assertEquals(expected.getTeam() == null ? null : expected.getTeam().getId(),
+                    actual.getTeam() == null ? null : actual.getTeam().getId());
+        }
+        assertEquals("member1", a.row(0).getUserName());
+    }
+
+    @Test
+    @DisplayName("팀 크기와 나이는 한쪽으로 치우친 분포를 가진다")
+    void skewed() {
+        // given
+        MemberDataGenerator.RowGenerator rows = new MemberDataGenerator.RowGenerator(7, TEAM_IDS);
+        Map<Long, Integer> teamSizes = new HashMap<>();
+        int young = 0;
+        int n = 100_000;
+
+        // when
+        for (long i = 0; i < n; i++) {
+            Member m = rows.row(i);
+            assertTrue(m.getAge() >= 10 && m.getAge() <= 90);
+            if (m.getAge() < 40) young++;
+            if (m.getTeam() != null) teamSizes.merge(m.getTeam().getId(), 1, Integer::sum);
+        }
+
+        // then - Zipf: 1번 팀이 10번 팀보다 훨씬 크고, 대부분 20~30대
+        assertTrue(teamSizes.get(1L) > teamSizes.get(10L) * 5);
+        assertTrue(young > n / 2);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.study.service;
+
+import com.example.study.dto.MemberSummary;
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberRepository;
+import com.example.study.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.study.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MemberQueryServiceTest {
+
+    @Autowired
+    MemberQueryService memberQueryService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    MemberCacheEvictor cacheEvictor;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearCache() {
+        cacheEvictor.evictAll();
+    }
+
+    @Test
+    @DisplayName("같은 조건은 캐시에서, 빈 이름은 null과 같은 키로 조회된다")
+    void cachedFindUser() {
+        // when
+        List<MemberSummary> first = memberQueryService.findUser(null, 30);
+        List<MemberSummary> second = memberQueryService.findUser("", 30);
+
+        // then
+        assertSame(first, second);
+        assertNotNull(cacheManager.getCache(MemberQueryService.MEMBERS_BY_USER)
+                .get(MemberQueryService.userKey(null, 30)));
+    }
+
+    @Test
+    @DisplayName("회원을 저장하면 캐시가 비워진다")
+    void evictOnSave() {
+        // given
+        List<MemberSummary> before = memberQueryService.findByName("member1");
+        Member member = memberRepository.findById(before.get(0).getId()).orElseThrow();
+        int age = member.getAge();
+
+        // when
+        member.setAge(age + 1);
+        memberRepository.save(member);
+
+        // then
+        List<MemberSummary> after = memberQueryService.findByName("member1");
+        assertNotSame(before, after);
+        assertEquals(age + 1, after.get(0).getAge());
+
+        member.setAge(age); // 원래 값으로 되돌리기
+        memberRepository.save(member);
+    }
+
+    @Test
+    @DisplayName("팀 이름을 바꾸면 캐시된 회원 결과의 팀 이름도 바뀐다")
+    void evictOnTeamRename() {
+        // given
+        Team team = teamRepository.save(Team.builder().name("cache-team").build());
+        Member saved = memberRepository.save(Member.builder().userName("cache-member").age(20).team(team).build());
+        assertEquals("cache-team", memberQueryService.findByName("cache-member").get(0).getTeamName());
+
+        try {
+            // when
+            transactionTemplate.executeWithoutResult(status ->
+                    teamRepository.findById(team.getId()).orElseThrow().setName("cache-team-renamed"));
+
+            // then
+            assertEquals("cache-team-renamed", memberQueryService.findByName("cache-member").get(0).getTeamName());
+        } finally {
+            memberRepository.delete(saved);
+            teamRepository.deleteById(team.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("벌크 연산이 커밋되면 캐시가 비워진다")
+    void evictOnBulkCommit() {
+        // given
+        memberQueryService.findByName("member1");
+        assertNotNull(cacheManager.getCache(MemberQueryService.MEMBERS_BY_NAME).get("member1"));
+
+        // when - 아무 행도 바꾸지 않는 벌크 연산
+        transactionTemplate.executeWithoutResult(status -> memberRepository.bulkIncrementAge(member.age.lt(0)));
+
+        // then
+        assertNull(cacheManager.getCache(MemberQueryService.MEMBERS_BY_NAME).get("member1"));
+    }
+
+    @Test
+    @DisplayName("캐시 적용 전/후 응답 시간 분포 (p50, p99)")
+    void latencyPercentiles() {
+        int calls = 2_000;
+        long[] uncached = new long[calls];
+        long[] cached = new long[calls];
+
+        for (int i = 0; i < calls; i++) {
+            cacheEvictor.evictAll();
+            long start = System.nanoTime();
+            memberQueryService.findUser(null, 30);
+            uncached[i] = System.nanoTime() - start;
+        }
+        for (int i = 0; i < calls; i++) {
+            long start = System.nanoTime();
+            memberQueryService.findUser(null, 30);
+            cached[i] = System.nanoTime() - start;
+        }
+
+        System.out.printf("uncached p50 %d us, p99 %d us | cached p50 %d us, p99 %d us%n",
+                percentile(uncached, 50), percentile(uncached, 99),
+                percentile(cached, 50), percentile(cached, 99));
+        assertTrue(percentile(cached, 99) < percentile(uncached, 99));
+    }
+
+    private long percentile(long[] nanos, int p) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(p / 100.0 * sorted.length) - 1] / 1_000;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.study.service;
+
+import com.example.study.dto.TeamStatistics;
+import com.example.study.entity.Member;
+import com.example.study.entity.Team;
+import com.example.study.repository.MemberRepository;
+import com.example.study.repository.TeamRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.example.study.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 벌크 이후 stale 표시를 확인하는 동안 스케줄러(rebuildIfStale)가 먼저 재계산하지 않도록 주기를 길게 둡니다.
+@SpringBootTest(properties = "team-stats.stale-check-interval=PT24H")
+class TeamStatisticsServiceTest {
+
+    @Autowired
+    TeamStatisticsService teamStatisticsService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    TeamStatisticsStore teamStatisticsStore;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    MemberBulkInsertService bulkInsertService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("팀 통계는 GROUP BY 결과와 같고, 회원 변경은 커밋 후 바로 반영된다")
+    void incrementalMatchesGroupBy() {
+        // given
+        teamStatisticsService.rebuild();
+        Team team = teamRepository.findAll().get(0);
+        TeamStatistics before = teamStatisticsService.findByTeamId(team.getId()).orElseThrow();
+        List<Member> members = memberRepository.findAll().stream()
+                .filter(m -> m.getTeam() != null && team.getId().equals(m.getTeam().getId()))
+                .toList();
+        assertEquals(members.size(), before.getMemberCount());
+        assertEquals(members.stream().mapToLong(Member::getAge).sum(), before.getAgeSum());
+
+        // when - 나이 200인 회원 추가 후 삭제
+        Member saved = transactionTemplate.execute(status ->
+                memberRepository.save(Member.builder().userName("statsMember").age(200).team(team).build()));
+        TeamStatistics added = teamStatisticsService.findByTeamId(team.getId()).orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteById(saved.getId()));
+        TeamStatistics removed = teamStatisticsService.findByTeamId(team.getId()).orElseThrow();
+
+        // then
+        assertEquals(before.getMemberCount() + 1, added.getMemberCount());
+        assertEquals(200, added.getMaxAge());
+        assertEquals(before.getMemberCount(), removed.getMemberCount());
+        assertEquals(before.getMaxAge(), removed.getMaxAge());
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 팀 통계에 반영되지 않는다")
+    void rollbackIgnored() {
+        // given
+        teamStatisticsService.rebuild();
+        Team team = teamRepository.findAll().get(0);
+        long count = teamStatisticsService.findByTeamId(team.getId()).orElseThrow().getMemberCount();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.saveAndFlush(Member.builder().userName("rollbackMember").age(30).team(team).build());
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(count, teamStatisticsService.findByTeamId(team.getId()).orElseThrow().getMemberCount());
+    }
+
+    @Test
+    @DisplayName("벌크 연산 이후에는 재계산 대상으로 표시된다")
+    void bulkMarksStale() {
+        // given
+        teamStatisticsService.rebuild();
+
+        // when - 아무 행도 바꾸지 않는 벌크 연산
+        transactionTemplate.executeWithoutResult(status -> memberRepository.bulkIncrementAge(member.age.lt(0)));
+
+        // then
+        assertTrue(teamStatisticsStore.isStale());
+        teamStatisticsService.rebuildIfStale();
+        assertFalse(teamStatisticsStore.isStale());
+    }
+
+    @Test
+    @DisplayName("대량 등록이 중간 청크에서 실패해도 앞에서 커밋된 청크가 있으면 재계산 대상으로 표시된다")
+    void failedBulkInsertMarksStale() {
+        // given - 두 번째 청크에 존재하지 않는 팀(FK 위반)을 넣어 둡니다.
+        teamStatisticsService.rebuild();
+        int count = MemberBulkInsertService.CHUNK_SIZE + 1;
+        List<Member> members = IntStream.range(0, count)
+                .mapToObj(i -> Member.builder()
+                        .userName("stale-test-" + i)
+                        .age(30)
+                        .team(i == count - 1 ? Team.builder().id(Long.MAX_VALUE).build() : null)
+                        .build())
+                .toList();
+
+        try {
+            // when
+            assertThrows(DataAccessException.class, () -> bulkInsertService.insertMembers(members));
+
+            // then
+            assertTrue(teamStatisticsStore.isStale());
+        } finally {
+            jdbcTemplate.update("DELETE FROM tbl_member WHERE user_name LIKE 'stale-test-%'");
+            teamStatisticsService.rebuild();
+        }
+    }
+}
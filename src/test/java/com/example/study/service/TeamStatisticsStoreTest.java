@@ -0,0 +1,61 @@
+package com.example.study.service;
+
+import com.example.study.dto.TeamAgeCount;
+import com.example.study.dto.TeamStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamStatisticsStoreTest {
+
+    @Test
+    @DisplayName("회원이 빠지면 최소/최대 나이가 다시 조회 없이 갱신된다")
+    void incrementalMinMax() {
+        // given
+        TeamStatisticsStore store = new TeamStatisticsStore();
+        store.add(1L, 10);
+        store.add(1L, 20);
+        store.add(1L, 40);
+        store.add(null, 99); // 팀 없는 회원은 무시
+
+        // when
+        store.remove(1L, 40);
+        store.remove(1L, 10);
+
+        // then
+        TeamStatistics stats = store.get(1L);
+        assertEquals(1, stats.getMemberCount());
+        assertEquals(20, stats.getAgeSum());
+        assertEquals(20.0, stats.getAverageAge());
+        assertEquals(20, stats.getMinAge());
+        assertEquals(20, stats.getMaxAge());
+        assertEquals(0, store.get(2L).getMemberCount());
+        assertNull(store.get(2L).getAverageAge());
+    }
+
+    @Test
+    @DisplayName("재계산 중에 들어온 변경은 재계산 결과에 다시 반영된다")
+    void rebuildReplaysConcurrentChanges() {
+        // given
+        TeamStatisticsStore store = new TeamStatisticsStore();
+        store.add(1L, 99); // 재계산 결과로 대체될 값
+        assertTrue(store.isStale());
+
+        // when - DB에서 읽는 도중 회원 한 명이 추가됨
+        store.rebuild(() -> {
+            store.add(2L, 30);
+            return List.of(new TeamAgeCount(1L, 10, 2), new TeamAgeCount(2L, 20, 1));
+        });
+
+        // then
+        assertFalse(store.isStale());
+        assertEquals(2, store.get(1L).getMemberCount());
+        assertEquals(10, store.get(1L).getMaxAge());
+        TeamStatistics team2 = store.get(2L);
+        assertEquals(2, team2.getMemberCount());
+        assertEquals(25.0, team2.getAverageAge());
+    }
+}